@@ -0,0 +1,56 @@
+package kr.easylab.learning_assistant.exam.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExamQuestionResponseSerializationBenchmark {
+    private ObjectMapper objectMapper;
+    private ExamQuestionResponse response;
+
+    @Setup
+    public void setUp() {
+        // 애플리케이션과 같은 설정 (spring.jackson.property-naming-strategy: SNAKE_CASE)
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .build();
+
+        List<Option> options = new ArrayList<>();
+        for (int i = 0; i < 5; i++)
+            options.add(Option.builder()
+                    .key(String.valueOf((char) ('A' + i)))
+                    .value("Option " + i + " uses a managed service with a different trade-off between cost and availability")
+                    .build());
+        response = ExamQuestionResponse.builder()
+                .questionId(3L)
+                .title("A company runs a stateless web application on Amazon EC2 instances behind an Application Load Balancer. ".repeat(3))
+                .answerCount(2L)
+                .options(options)
+                .marker(true)
+                .version(4L)
+                .build();
+        response.setUserAnswers(List.of("A", "C"));
+        response.setActualAnswers(List.of("B", "D"));
+        response.setExplanation("Auto Scaling with target tracking keeps utilization near the target value. ".repeat(4));
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,102 @@
+package kr.easylab.learning_assistant.exam.service;
+
+import kr.easylab.learning_assistant.exam.dto.ExamTranslationResponse;
+import kr.easylab.learning_assistant.exam.entity.Exam;
+import kr.easylab.learning_assistant.exam.entity.ExamQuestion;
+import kr.easylab.learning_assistant.exam.service.translation.ExamTranslationService;
+import kr.easylab.learning_assistant.question.entity.Answer;
+import kr.easylab.learning_assistant.question.entity.Question;
+import kr.easylab.learning_assistant.translation.dto.Language;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 벤치마크용 엔티티. 실제 문제와 비슷한 길이의 문자열을 사용
+final class ExamFixtures {
+    private static final String TITLE = "A company runs a stateless web application on Amazon EC2 instances behind an Application Load Balancer. "
+            + "Traffic is unpredictable and the company wants to minimize cost while keeping latency low. Which solution meets these requirements? ";
+    private static final String EXPLANATION = "Auto Scaling with target tracking keeps utilization near the target value, "
+            + "and Spot Instances reduce cost for stateless workloads that tolerate interruption. ";
+
+    private ExamFixtures() {
+    }
+
+    static Question question(long id) {
+        List<Answer> answers = new ArrayList<>();
+        for (long i = 0; i < 5; i++)
+            answers.add(Answer.builder()
+                    .id(id * 10 + i)
+                    .text("Option " + i + " uses a managed service with a different trade-off between cost and availability")
+                    .correct(i == 1 || i == 3)
+                    .build());
+        return Question.builder()
+                .id(id)
+                .title(TITLE.repeat(2))
+                .answer(answers)
+                .explanation(EXPLANATION.repeat(3))
+                .build();
+    }
+
+    static List<Question> questions(int count) {
+        List<Question> questions = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++)
+            questions.add(question(id));
+        return questions;
+    }
+
+    static List<ExamQuestion> examQuestions(List<Question> questions) {
+        Exam exam = Exam.builder()
+                .id(1L)
+                .language(Language.KOREAN)
+                .randomSeed(1234L)
+                .build();
+        List<ExamQuestion> examQuestions = new ArrayList<>(questions.size());
+        for (int no = 0; no < questions.size(); no++)
+            examQuestions.add(ExamQuestion.builder()
+                    .id((long) no + 1)
+                    .exam(exam)
+                    .no((long) no)
+                    .question(questions.get(no))
+                    .marked(no % 7 == 0)
+                    .correct(no % 3 != 0)
+                    .answerMask(no % 3 == 0 ? 0b00101 : 0b01010)
+                    .version(1L)
+                    .build());
+        return examQuestions;
+    }
+
+    // 번역이 이미 캐시에 있는 상황을 가정 (원문을 그대로 반환)
+    static ExamTranslationResponse translation(Question question) {
+        Map<Long, String> answers = new LinkedHashMap<>();
+        for (Answer answer : question.getAnswer())
+            answers.put(answer.getId(), answer.getText());
+        return ExamTranslationResponse.builder()
+                .title(question.getTitle())
+                .answers(answers)
+                .explanation(question.getExplanation())
+                .build();
+    }
+
+    static ExamQuestionMapper mapper(List<ExamQuestion> examQuestions) {
+        Map<Long, ExamTranslationResponse> translations = new LinkedHashMap<>();
+        for (ExamQuestion examQuestion : examQuestions)
+            translations.put(examQuestion.getNo(), translation(examQuestion.getQuestion()));
+        FixedTranslationService translationService = new FixedTranslationService(translations);
+        return new ExamQuestionMapper(translationService, translationService);
+    }
+
+    // 문제 순번으로 미리 만든 번역을 돌려줌
+    private record FixedTranslationService(Map<Long, ExamTranslationResponse> translations) implements ExamTranslationService {
+        @Override
+        public ExamTranslationResponse translate(Long examId, Long no) {
+            return translations.get(no);
+        }
+
+        @Override
+        public ExamTranslationResponse translate(ExamQuestion examQuestion) {
+            return translations.get(examQuestion.getNo());
+        }
+    }
+}
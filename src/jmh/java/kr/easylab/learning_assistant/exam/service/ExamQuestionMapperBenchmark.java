@@ -0,0 +1,39 @@
+package kr.easylab.learning_assistant.exam.service;
+
+import kr.easylab.learning_assistant.exam.dto.ExamQuestionResponse;
+import kr.easylab.learning_assistant.exam.entity.ExamQuestion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExamQuestionMapperBenchmark {
+    private ExamQuestionMapper mapper;
+    private ExamQuestion examQuestion;
+
+    @Setup
+    public void setUp() {
+        List<ExamQuestion> examQuestions = ExamFixtures.examQuestions(ExamFixtures.questions(1));
+        examQuestion = examQuestions.getFirst();
+        mapper = ExamFixtures.mapper(examQuestions);
+    }
+
+    @Benchmark
+    public ExamQuestionResponse mapToDto() {
+        return mapper.mapToDto(examQuestion);
+    }
+
+    @Benchmark
+    public String mapToString() {
+        return mapper.mapToString(examQuestion);
+    }
+}
@@ -0,0 +1,48 @@
+package kr.easylab.learning_assistant.exam.service;
+
+import kr.easylab.learning_assistant.exam.entity.ExamQuestion;
+import kr.easylab.learning_assistant.question.entity.Question;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 보고서 프롬프트는 문제 은행 전체와 시험의 모든 문제를 문자열로 만듦
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExamReportPromptBenchmark {
+    @Param({"100", "1000"})
+    private int bankSize;
+
+    @Param({"65"})
+    private int examSize;
+
+    private ExamReportService examReportService;
+    private List<Question> questions;
+    private List<ExamQuestion> examQuestions;
+
+    @Setup
+    public void setUp() {
+        questions = ExamFixtures.questions(bankSize);
+        examQuestions = ExamFixtures.examQuestions(questions.subList(0, Math.min(examSize, bankSize)));
+        examReportService = new ExamReportService(ExamFixtures.mapper(examQuestions), null, null, null, null);
+    }
+
+    @Benchmark
+    public String buildKnowledge() {
+        return examReportService.buildKnowledge(questions);
+    }
+
+    @Benchmark
+    public String buildUserMessage() {
+        return examReportService.buildUserMessage(examQuestions);
+    }
+}
@@ -0,0 +1,56 @@
+package kr.easylab.learning_assistant.llm.service;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.converter.ResolvedSchema;
+import kr.easylab.learning_assistant.exam.dto.ExamChatbotPresetResponse;
+import kr.easylab.learning_assistant.translation.dto.TranslatedResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 구조화 출력 요청마다 수행되는 스키마 해석과 Google 스키마 변환
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SchemaMappingBenchmark {
+    private GoogleSchemaMappingService schemaMappingService;
+    private ResolvedSchema presetSchema;
+
+    @Setup
+    public void setUp() {
+        schemaMappingService = new GoogleSchemaMappingService(Jackson2ObjectMapperBuilder.json()
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .build());
+        presetSchema = resolve(ExamChatbotPresetResponse.class);
+    }
+
+    private ResolvedSchema resolve(Class<?> clazz) {
+        return ModelConverters.getInstance()
+                .resolveAsResolvedSchema(new AnnotatedType(clazz).resolveAsRef(false));
+    }
+
+    @Benchmark
+    public ResolvedSchema resolveTranslatedResponse() {
+        return resolve(TranslatedResponse.class);
+    }
+
+    @Benchmark
+    public ResolvedSchema resolvePresetResponse() {
+        return resolve(ExamChatbotPresetResponse.class);
+    }
+
+    @Benchmark
+    public Map<String, Object> mapToGoogleSchema() {
+        return schemaMappingService.mapToGoogleSchema(presetSchema.schema);
+    }
+}
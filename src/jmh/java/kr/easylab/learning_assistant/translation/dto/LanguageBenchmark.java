@@ -0,0 +1,25 @@
+package kr.easylab.learning_assistant.translation.dto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LanguageBenchmark {
+    // 첫 번째 값과 마지막 값, 대문자 입력
+    @Param({"en", "zh", "KO"})
+    private String code;
+
+    @Benchmark
+    public Language fromCode() {
+        return Language.fromCode(code);
+    }
+}
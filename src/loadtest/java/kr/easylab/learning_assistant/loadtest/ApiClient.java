@@ -0,0 +1,141 @@
+package kr.easylab.learning_assistant.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 애플리케이션 REST API 호출. 모든 호출은 경로 템플릿 이름으로 응답 시간을 기록
+public class ApiClient {
+    public static class ApiException extends RuntimeException {
+        public ApiException(String message) {
+            super(message);
+        }
+    }
+
+    private final String baseUrl;
+    private final String adminAuthorization;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    public ApiClient(String baseUrl, String adminPassword) {
+        this.baseUrl = baseUrl;
+        this.adminAuthorization = "Basic " + Base64.getEncoder()
+                .encodeToString(("admin:" + adminPassword).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Map<String, EndpointStats> getStats() {
+        return new TreeMap<>(stats);
+    }
+
+    private EndpointStats stats(String endpoint) {
+        return stats.computeIfAbsent(endpoint, key -> new EndpointStats());
+    }
+
+    public JsonNode get(String endpoint, String path) {
+        return send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path)).GET(), false);
+    }
+
+    public JsonNode adminGet(String path) {
+        return send(null, HttpRequest.newBuilder(URI.create(baseUrl + path)).GET(), true);
+    }
+
+    public JsonNode post(String endpoint, String path, Object body) {
+        return send(endpoint, json(HttpRequest.newBuilder(URI.create(baseUrl + path)), "POST", body), false);
+    }
+
+    public JsonNode adminPost(String path, String contentType, String body) {
+        return send(null, HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(body)), true);
+    }
+
+    public JsonNode delete(String endpoint, String path) {
+        return send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path)).DELETE(), false);
+    }
+
+    // SSE 응답을 끝까지 읽고 첫 이벤트까지의 시간을 별도로 기록
+    public int stream(String endpoint, String path, Object body) {
+        long start = System.nanoTime();
+        boolean error = true;
+        int events = 0;
+        try {
+            HttpResponse<InputStream> response = httpClient.send(
+                    json(HttpRequest.newBuilder(URI.create(baseUrl + path)), "POST", body)
+                            .header("Accept", "text/event-stream")
+                            .build(),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            if (response.statusCode() / 100 != 2) {
+                response.body().close();
+                throw new ApiException(endpoint + " returned " + response.statusCode());
+            }
+            try (BufferedReader lines = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    if (line.startsWith("data:") && events++ == 0)
+                        stats(endpoint + " (first event)").record((System.nanoTime() - start) / 1000, false);
+                }
+            }
+            error = false;
+            return events;
+        } catch (IOException e) {
+            throw new ApiException(endpoint + " failed: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(endpoint + " interrupted");
+        } finally {
+            stats(endpoint).record((System.nanoTime() - start) / 1000, error);
+        }
+    }
+
+    private HttpRequest.Builder json(HttpRequest.Builder builder, String method, Object body) {
+        try {
+            return builder
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        } catch (IOException e) {
+            throw new ApiException("Failed to serialize request: " + e.getMessage());
+        }
+    }
+
+    private JsonNode send(String endpoint, HttpRequest.Builder builder, boolean admin) {
+        if (admin)
+            builder.header("Authorization", adminAuthorization);
+        builder.timeout(Duration.ofMinutes(5));
+
+        long start = System.nanoTime();
+        boolean error = true;
+        try {
+            HttpResponse<byte[]> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() / 100 != 2)
+                throw new ApiException((endpoint == null ? "admin request" : endpoint) + " returned " + response.statusCode()
+                        + ": " + new String(response.body(), StandardCharsets.UTF_8));
+            error = false;
+            return response.body().length == 0 ? objectMapper.nullNode() : objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new ApiException((endpoint == null ? "admin request" : endpoint) + " failed: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException("interrupted");
+        } finally {
+            if (endpoint != null)
+                stats(endpoint).record((System.nanoTime() - start) / 1000, error);
+        }
+    }
+}
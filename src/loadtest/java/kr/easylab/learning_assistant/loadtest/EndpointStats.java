@@ -0,0 +1,34 @@
+package kr.easylab.learning_assistant.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 엔드포인트별 응답 시간. 부하 테스트 규모에서는 전체 표본을 보관하고 종료 시 정렬하여 백분위를 계산
+public class EndpointStats {
+    private final List<Long> latenciesMicros = new ArrayList<>();
+    private long errors;
+
+    public synchronized void record(long latencyMicros, boolean error) {
+        latenciesMicros.add(latencyMicros);
+        if (error)
+            errors++;
+    }
+
+    public synchronized long count() {
+        return latenciesMicros.size();
+    }
+
+    public synchronized long errors() {
+        return errors;
+    }
+
+    public synchronized double percentileMillis(double percentile) {
+        if (latenciesMicros.isEmpty())
+            return 0;
+        List<Long> sorted = new ArrayList<>(latenciesMicros);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(sorted.size() - 1, index))) / 1000.0;
+    }
+}
@@ -0,0 +1,86 @@
+package kr.easylab.learning_assistant.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// 한 학습자의 시험 진행: 시험 생성 → 문제를 사람 속도로 풀며 답 제출, 마커, 프리셋, 채팅 → 결과 조회
+public class ExamSession {
+    private final ApiClient apiClient;
+    private final LoadTestConfig config;
+    private final long questionBankId;
+    private final Random random;
+
+    public ExamSession(ApiClient apiClient, LoadTestConfig config, long questionBankId, long sessionIndex) {
+        this.apiClient = apiClient;
+        this.config = config;
+        this.questionBankId = questionBankId;
+        // 세션마다 고정된 난수열을 사용하여 같은 seed 로 같은 작업량을 재현
+        this.random = new Random(config.getSeed() * 1_000_003L + sessionIndex);
+    }
+
+    public void run() throws InterruptedException {
+        JsonNode exam = apiClient.post("POST /exams", "/api/1/exams", Map.of(
+                "question_bank_id", questionBankId,
+                "language", config.getLanguage(),
+                "questions", config.getQuestionsPerExam()));
+        long examId = exam.path("exam_id").asLong();
+        String examPath = "/api/1/exams/" + examId;
+
+        long total = apiClient.get("GET /exams/{id}/total_questions", examPath + "/total_questions")
+                .path("total_question_count").asLong();
+
+        for (long no = 0; no < total; no++) {
+            String questionPath = examPath + "/questions/" + no;
+            JsonNode question = apiClient.get("GET /exams/{id}/questions/{no}", questionPath);
+            think(1.0);
+
+            if (random.nextDouble() < config.getMarkerProbability()) {
+                apiClient.post("POST /exams/{id}/questions/{no}/marker", questionPath + "/marker", Map.of());
+                // 표시했다가 다시 해제하는 경우
+                if (random.nextBoolean())
+                    apiClient.delete("DELETE /exams/{id}/questions/{no}/marker", questionPath + "/marker");
+            }
+
+            // 표시 변경으로 version 이 바뀌므로 version 없이 마지막 답을 제출
+            apiClient.post("POST /exams/{id}/questions/{no}/answer", questionPath + "/answer", Map.of(
+                    "user_answers", pickAnswers(question)));
+
+            if (random.nextDouble() < config.getPresetProbability()) {
+                apiClient.get("GET /exams/{id}/questions/{no}/chat/preset", questionPath + "/chat/preset");
+                think(0.5);
+            }
+            if (random.nextDouble() < config.getChatProbability()) {
+                apiClient.stream("POST /exams/{id}/questions/{no}/chat/stream", questionPath + "/chat/stream",
+                        Map.of("user", "Why is my answer incorrect?"));
+                think(1.0);
+            }
+        }
+
+        apiClient.get("GET /exams/{id}/result", examPath + "/result");
+    }
+
+    private List<String> pickAnswers(JsonNode question) {
+        List<String> keys = new ArrayList<>();
+        question.path("options").forEach(option -> keys.add(option.path("key").asText()));
+        int count = Math.max(1, question.path("answer_count").asInt(1));
+        List<String> picked = new ArrayList<>();
+        while (picked.size() < Math.min(count, keys.size())) {
+            String key = keys.get(random.nextInt(keys.size()));
+            if (!picked.contains(key))
+                picked.add(key);
+        }
+        return picked;
+    }
+
+    private void think(double scale) throws InterruptedException {
+        long median = config.getThinkTime().toMillis();
+        if (median <= 0)
+            return;
+        Thread.sleep(Duration.ofMillis(Math.round(scale * median * Math.exp(0.5 * random.nextGaussian()))));
+    }
+}
@@ -0,0 +1,114 @@
+package kr.easylab.learning_assistant.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import kr.easylab.learning_assistant.simulator.LLMSimulator;
+import kr.easylab.learning_assistant.simulator.LLMSimulatorConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 동시 학습자 시나리오를 실행하고 엔드포인트별 처리량과 응답 시간, 세션당 LLM 호출 및 SQL 문 수를 보고
+@Slf4j
+public class LoadTest {
+    private final LoadTestConfig config;
+    private final ApiClient apiClient;
+
+    public LoadTest(LoadTestConfig config) {
+        this.config = config;
+        this.apiClient = new ApiClient(config.getBaseUrl(), config.getAdminPassword());
+    }
+
+    public void run() throws IOException, InterruptedException {
+        LLMSimulator simulator = config.getSimulatorPort() == 0 ? null
+                : new LLMSimulator(LLMSimulatorConfig.builder().seed(config.getSeed()).build()).start(config.getSimulatorPort());
+        try (RuntimeSampler sampler = new RuntimeSampler(apiClient)) {
+            long questionBankId = config.getQuestionBankId() != null ? config.getQuestionBankId() : createQuestionBank();
+
+            double statementsBefore = sampler.count("jdbc.query");
+            long llmCallsBefore = simulator == null ? 0 : simulator.getRequestCount();
+            sampler.start(config.getRuntimeSampleInterval().toMillis());
+
+            AtomicLong completed = new AtomicLong();
+            AtomicLong failed = new AtomicLong();
+            Semaphore permits = new Semaphore(config.getConcurrency());
+            long rampUpStepNanos = config.getSessions() == 0 ? 0 : config.getRampUp().toNanos() / config.getSessions();
+            long start = System.nanoTime();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (long index = 0; index < config.getSessions(); index++) {
+                    permits.acquire();
+                    long sessionIndex = index;
+                    executor.submit(() -> {
+                        try {
+                            new ExamSession(apiClient, config, questionBankId, sessionIndex).run();
+                            completed.incrementAndGet();
+                        } catch (Exception e) {
+                            failed.incrementAndGet();
+                            log.warn("Session {} failed: {}", sessionIndex, e.getMessage());
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                    TimeUnit.NANOSECONDS.sleep(rampUpStepNanos);
+                }
+            }
+
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+            double statements = sampler.count("jdbc.query") - statementsBefore;
+            long llmCalls = simulator == null ? -1 : simulator.getRequestCount() - llmCallsBefore;
+            report(elapsedSeconds, completed.get(), failed.get(), llmCalls, statements, sampler);
+        } finally {
+            if (simulator != null)
+                simulator.close();
+        }
+    }
+
+    private long createQuestionBank() {
+        JsonNode bank = apiClient.adminPost("/api/1/question-banks", "application/json",
+                "{\"title\":\"load-test " + config.getSeed() + "\"}");
+        long questionBankId = bank.path("question_bank_id").asLong();
+
+        Random random = new Random(config.getSeed());
+        StringBuilder records = new StringBuilder();
+        for (int i = 0; i < config.getBankSize(); i++) {
+            int correct = 1 + (random.nextInt(4) == 0 ? 1 : 0);
+            records.append("{\"title\":\"Load test question ").append(i)
+                    .append(": which option satisfies the requirement with the lowest operational overhead?\",")
+                    .append("\"correct_answers\":[");
+            for (int c = 0; c < correct; c++)
+                records.append(c == 0 ? "" : ",").append("\"Correct option ").append(c).append("\"");
+            records.append("],\"incorrect_answers\":[\"Distractor A\",\"Distractor B\",\"Distractor C\"],")
+                    .append("\"explanation\":\"Explanation for question ").append(i).append(".\"}\n");
+        }
+        apiClient.adminPost("/api/1/question-banks/" + questionBankId + "/questions/import", "application/x-ndjson", records.toString());
+        log.info("Created question bank {} with {} questions", questionBankId, config.getBankSize());
+        return questionBankId;
+    }
+
+    private void report(double elapsedSeconds, long completed, long failed, long llmCalls, double statements, RuntimeSampler sampler) {
+        StringBuilder out = new StringBuilder("\n");
+        out.append(String.format("sessions: %d completed, %d failed in %.1fs (%.2f sessions/s, concurrency %d, seed %d)%n",
+                completed, failed, elapsedSeconds, completed / elapsedSeconds, config.getConcurrency(), config.getSeed()));
+        out.append(String.format("%-58s %8s %7s %9s %10s %10s%n", "endpoint", "count", "errors", "req/s", "p50 ms", "p99 ms"));
+        for (Map.Entry<String, EndpointStats> entry : apiClient.getStats().entrySet()) {
+            EndpointStats stats = entry.getValue();
+            out.append(String.format("%-58s %8d %7d %9.2f %10.1f %10.1f%n",
+                    entry.getKey(), stats.count(), stats.errors(), stats.count() / elapsedSeconds,
+                    stats.percentileMillis(0.5), stats.percentileMillis(0.99)));
+        }
+        long sessions = Math.max(1, completed + failed);
+        out.append(llmCalls < 0 ? "LLM calls per session: n/a (simulator disabled)\n"
+                : String.format("LLM calls per session: %.2f (%d total)%n", (double) llmCalls / sessions, llmCalls));
+        out.append(Double.isNaN(statements) ? "SQL statements per session: n/a (jdbc.query metric unavailable)\n"
+                : String.format("SQL statements per session: %.1f (%.0f total)%n", statements / sessions, statements));
+        out.append(sampler.summary()).append('\n');
+        System.out.print(out);
+    }
+}
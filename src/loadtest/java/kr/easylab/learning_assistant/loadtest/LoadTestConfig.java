@@ -0,0 +1,52 @@
+package kr.easylab.learning_assistant.loadtest;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Builder
+@Getter
+public class LoadTestConfig {
+    @Builder.Default
+    private String baseUrl = "http://localhost:8080";
+    @Builder.Default
+    private String adminPassword = "password";
+
+    // 동시에 진행하는 학습자 수와 전체 세션 수
+    @Builder.Default
+    private int concurrency = 20;
+    @Builder.Default
+    private int sessions = 100;
+    // 세션 시작을 이 시간 동안 고르게 분산
+    @Builder.Default
+    private Duration rampUp = Duration.ofSeconds(10);
+
+    @Builder.Default
+    private long seed = 42L;
+    @Builder.Default
+    private String language = "ko";
+    @Builder.Default
+    private long questionsPerExam = 10;
+
+    // 문제 은행을 지정하지 않으면 bankSize 개의 문제로 새로 생성
+    private Long questionBankId;
+    @Builder.Default
+    private int bankSize = 200;
+
+    // 문제를 읽고 답을 고르는 시간 (로그 정규 분포의 중앙값)
+    @Builder.Default
+    private Duration thinkTime = Duration.ofSeconds(3);
+    @Builder.Default
+    private double markerProbability = 0.2;
+    @Builder.Default
+    private double presetProbability = 0.3;
+    @Builder.Default
+    private double chatProbability = 0.15;
+
+    // 0 이 아니면 이 포트에 LLM 시뮬레이터를 띄움 (애플리케이션의 base_url 을 이 주소로 지정해야 함)
+    @Builder.Default
+    private int simulatorPort = 8089;
+    @Builder.Default
+    private Duration runtimeSampleInterval = Duration.ofSeconds(1);
+}
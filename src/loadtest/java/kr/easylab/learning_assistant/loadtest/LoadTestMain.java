@@ -0,0 +1,54 @@
+package kr.easylab.learning_assistant.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+// 실행 예:
+//   LLM_PROVIDER=google GOOGLE_BASE_URL=http://127.0.0.1:8089 HIBERNATE_STATISTICS=true \
+//     MANAGEMENT_ENDPOINTS=health,metrics ./gradlew bootRun
+//   ./gradlew loadTest --args="--concurrency=50 --sessions=200 --think_time=1000 --seed=7 --admin_password=..."
+public class LoadTestMain {
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("="))
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        LoadTestConfig.LoadTestConfigBuilder builder = LoadTestConfig.builder();
+        if (options.containsKey("base_url"))
+            builder.baseUrl(options.get("base_url"));
+        if (options.containsKey("admin_password"))
+            builder.adminPassword(options.get("admin_password"));
+        if (options.containsKey("concurrency"))
+            builder.concurrency(Integer.parseInt(options.get("concurrency")));
+        if (options.containsKey("sessions"))
+            builder.sessions(Integer.parseInt(options.get("sessions")));
+        if (options.containsKey("ramp_up"))
+            builder.rampUp(Duration.ofMillis(Long.parseLong(options.get("ramp_up"))));
+        if (options.containsKey("seed"))
+            builder.seed(Long.parseLong(options.get("seed")));
+        if (options.containsKey("language"))
+            builder.language(options.get("language"));
+        if (options.containsKey("questions"))
+            builder.questionsPerExam(Long.parseLong(options.get("questions")));
+        if (options.containsKey("question_bank_id"))
+            builder.questionBankId(Long.parseLong(options.get("question_bank_id")));
+        if (options.containsKey("bank_size"))
+            builder.bankSize(Integer.parseInt(options.get("bank_size")));
+        if (options.containsKey("think_time"))
+            builder.thinkTime(Duration.ofMillis(Long.parseLong(options.get("think_time"))));
+        if (options.containsKey("marker_probability"))
+            builder.markerProbability(Double.parseDouble(options.get("marker_probability")));
+        if (options.containsKey("preset_probability"))
+            builder.presetProbability(Double.parseDouble(options.get("preset_probability")));
+        if (options.containsKey("chat_probability"))
+            builder.chatProbability(Double.parseDouble(options.get("chat_probability")));
+        if (options.containsKey("simulator_port"))
+            builder.simulatorPort(Integer.parseInt(options.get("simulator_port")));
+
+        new LoadTest(builder.build()).run();
+    }
+}
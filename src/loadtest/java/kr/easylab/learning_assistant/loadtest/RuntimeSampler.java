@@ -0,0 +1,77 @@
+package kr.easylab.learning_assistant.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// actuator 지표로 애플리케이션의 힙, 스레드, 실행된 SQL 문 수를 수집
+public class RuntimeSampler implements AutoCloseable {
+    private final ApiClient apiClient;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    private double maxHeapBytes;
+    private double heapBytesSum;
+    private double maxThreads;
+    private double threadsSum;
+    private long samples;
+
+    public RuntimeSampler(ApiClient apiClient) {
+        this.apiClient = apiClient;
+    }
+
+    public void start(long intervalMillis) {
+        scheduler.scheduleAtFixedRate(this::sample, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 지표를 조회할 수 없으면 NaN
+    public double metric(String name) {
+        try {
+            JsonNode measurements = apiClient.adminGet("/actuator/metrics/" + name).path("measurements");
+            double value = 0;
+            for (JsonNode measurement : measurements)
+                value += measurement.path("value").asDouble();
+            return value;
+        } catch (ApiClient.ApiException e) {
+            return Double.NaN;
+        }
+    }
+
+    // 타이머 지표의 누적 호출 수, 조회할 수 없으면 NaN
+    public double count(String name) {
+        try {
+            for (JsonNode measurement : apiClient.adminGet("/actuator/metrics/" + name).path("measurements")) {
+                if ("COUNT".equals(measurement.path("statistic").asText()))
+                    return measurement.path("value").asDouble();
+            }
+            return Double.NaN;
+        } catch (ApiClient.ApiException e) {
+            return Double.NaN;
+        }
+    }
+
+    private synchronized void sample() {
+        double heap = metric("jvm.memory.used?tag=area:heap");
+        double threads = metric("jvm.threads.live");
+        if (Double.isNaN(heap) || Double.isNaN(threads))
+            return;
+        maxHeapBytes = Math.max(maxHeapBytes, heap);
+        heapBytesSum += heap;
+        maxThreads = Math.max(maxThreads, threads);
+        threadsSum += threads;
+        samples++;
+    }
+
+    public synchronized String summary() {
+        if (samples == 0)
+            return "heap/threads: n/a (actuator metrics unavailable)";
+        return String.format("heap used: avg %.1f MiB, max %.1f MiB | live threads: avg %.0f, max %.0f (%d samples)",
+                heapBytesSum / samples / 1048576, maxHeapBytes / 1048576, threadsSum / samples, maxThreads, samples);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,32 @@
+package kr.easylab.learning_assistant;
+
+import com.google.common.cache.CacheBuilder;
+import kr.easylab.learning_assistant.common.cache.StatisticsConcurrentMapCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+    // 기본 캐시와 동일하게 메모리에 저장하되, 성능 지표에서 적중률을 볼 수 있도록 조회 결과를 셈
+    // 문제 은행 목록은 다른 파드에서 바뀌면 비워지지 않으므로 question_banks_ttl 이 지나면 다시 조회
+    @Bean
+    public CacheManager cacheManager(@Value("${cache.question_banks_ttl}") Duration questionBanksTtl) {
+        return new ConcurrentMapCacheManager() {
+            @Override
+            protected Cache createConcurrentMapCache(String name) {
+                if (name.equals("question-banks"))
+                    return new StatisticsConcurrentMapCache(name, CacheBuilder.newBuilder()
+                            .expireAfterWrite(questionBanksTtl)
+                            .build()
+                            .asMap());
+                return new StatisticsConcurrentMapCache(name);
+            }
+        };
+    }
+}
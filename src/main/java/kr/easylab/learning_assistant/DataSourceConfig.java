@@ -0,0 +1,70 @@
+package kr.easylab.learning_assistant;
+
+import com.zaxxer.hikari.HikariDataSource;
+import kr.easylab.learning_assistant.common.datasource.ReplicaLagMonitor;
+import kr.easylab.learning_assistant.common.datasource.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// datasource.replica.enabled 인 경우에만 주 DB 와 복제본 풀을 따로 만들고, 읽기 전용 트랜잭션을 복제본으로 라우팅
+// 각 풀은 Hikari 빈으로 등록되므로 actuator 의 hikaricp.* 지표가 pool 이름(primary, replica)별로 수집됨
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username}") String username,
+            @Value("${datasource.replica.password}") String password,
+            @Value("${datasource.replica.maximum_pool_size}") int maximumPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${datasource.replica.lag_query}") String lagQuery,
+            @Value("${datasource.replica.max_lag}") Duration maxLag) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource, lagQuery, maxLag);
+        monitor.check();
+        return monitor;
+    }
+
+    // JDBC 추적 프록시는 연결을 얻자마자 메타데이터를 읽어 연결 지연을 깨뜨리므로, 이 빈은 제외하고(jdbc.excluded-data-source-bean-names) 각 풀을 감쌈
+    @Bean
+    @Primary
+    public DataSource routingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor) {
+        return ReplicaRoutingDataSource.create(primaryDataSource, replicaDataSource, replicaLagMonitor);
+    }
+}
@@ -0,0 +1,30 @@
+package kr.easylab.learning_assistant;
+
+import kr.easylab.learning_assistant.chatbot.service.ChatbotArchiveScheduler;
+import kr.easylab.learning_assistant.chatbot.service.ChatbotStreamSweeper;
+import kr.easylab.learning_assistant.common.datasource.ReplicaLagMonitor;
+import kr.easylab.learning_assistant.exam.service.writebehind.ExamWriteBehindBuffer;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.security.web.SecurityFilterChain;
+
+@Configuration
+public class FastStartConfig {
+    // spring.main.lazy-initialization 을 사용할 때도 미리 만들어야 하는 빈
+    // - JPA, 마이그레이션, 보안: 첫 요청이 초기화 비용을 떠안지 않도록 함
+    // - 예약 작업과 WAL 복구: 생성되지 않으면 실행되지 않음
+    @Bean
+    public static LazyInitializationExcludeFilter eagerBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                AbstractEntityManagerFactoryBean.class,
+                FlywayMigrationInitializer.class,
+                SecurityFilterChain.class,
+                ExamWriteBehindBuffer.class,
+                ChatbotArchiveScheduler.class,
+                ChatbotStreamSweeper.class,
+                ReplicaLagMonitor.class);
+    }
+}
@@ -59,6 +59,9 @@ public class SecurityConfig {
                 .authorizeHttpRequests(authz -> authz
                         // '/admin/**' 패턴의 URL 요청은 'ADMIN' 역할을 가진 사용자만 접근 가능
                         .requestMatchers("/admin/**").hasRole("ADMIN")
+                        // 지표 등 운영 정보는 health 를 제외하고 관리자만 조회 가능
+                        .requestMatchers("/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().permitAll()
                 )
                 // Basic 인증 지원
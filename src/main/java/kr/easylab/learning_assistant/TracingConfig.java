@@ -0,0 +1,35 @@
+package kr.easylab.learning_assistant;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.easylab.learning_assistant.common.tracing.FileSpanReporter;
+import kr.easylab.learning_assistant.common.tracing.InMemorySpanReporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+// 요청 처리 중의 DB 쿼리, @Async 번역 작업, LLM 호출을 하나의 trace 로 묶어 기록
+// Reactor 파이프라인은 spring.reactor.context-propagation=auto 로 전파됨
+@Configuration
+public class TracingConfig {
+    // @Async 실행기에서도 요청 스레드의 observation 이 이어지도록 함
+    @Bean
+    public ContextPropagatingTaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+
+    @Bean
+    public InMemorySpanReporter inMemorySpanReporter(@Value("${tracing.recent_spans}") int capacity) {
+        return new InMemorySpanReporter(capacity);
+    }
+
+    @Bean
+    @ConditionalOnExpression("!'${tracing.export.file:}'.isEmpty()")
+    public FileSpanReporter fileSpanReporter(ObjectMapper objectMapper, @Value("${tracing.export.file}") Path file) throws IOException {
+        return new FileSpanReporter(objectMapper, file);
+    }
+}
@@ -0,0 +1,24 @@
+package kr.easylab.learning_assistant.chatbot.controller;
+
+import kr.easylab.learning_assistant.chatbot.dto.ChatbotMessagePageResponse;
+import kr.easylab.learning_assistant.chatbot.service.ChatbotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/1/chatbots")
+@RequiredArgsConstructor
+public class ChatbotController {
+    private static final long MAX_PAGE_SIZE = 100L;
+
+    private final ChatbotService chatbotService;
+
+    @GetMapping("/{chatbot_id}/messages")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ChatbotMessagePageResponse getMessages(@PathVariable Long chatbot_id,
+                                                  @RequestParam(required = false) Long before_id,
+                                                  @RequestParam(defaultValue = "20") Long limit) {
+        return chatbotService.getChatbotMessagePage(chatbot_id, before_id, Math.clamp(limit, 1L, MAX_PAGE_SIZE));
+    }
+}
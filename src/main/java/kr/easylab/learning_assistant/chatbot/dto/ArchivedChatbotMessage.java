@@ -0,0 +1,22 @@
+package kr.easylab.learning_assistant.chatbot.dto;
+
+import kr.easylab.learning_assistant.chatbot.entity.ChatbotMessage;
+import kr.easylab.learning_assistant.llm.dto.LLMMessage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedChatbotMessage {
+    private Long id;
+    private LLMMessage.Role role;
+    private String message;
+    private ChatbotMessage.Status status;
+    private LocalDateTime createdAt;
+}
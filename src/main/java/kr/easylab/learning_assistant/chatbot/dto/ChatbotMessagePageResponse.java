@@ -0,0 +1,16 @@
+package kr.easylab.learning_assistant.chatbot.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class ChatbotMessagePageResponse {
+    // 최신 메시지부터 정렬
+    private List<ChatbotMessageResponse> messages;
+
+    // 다음 페이지 조회 시 before_id 로 전달. 더 이상 메시지가 없으면 null
+    private Long nextBeforeId;
+}
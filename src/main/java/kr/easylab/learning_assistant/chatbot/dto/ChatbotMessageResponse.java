@@ -0,0 +1,15 @@
+package kr.easylab.learning_assistant.chatbot.dto;
+
+import kr.easylab.learning_assistant.chatbot.entity.ChatbotMessage;
+import kr.easylab.learning_assistant.llm.dto.LLMMessage;
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class ChatbotMessageResponse {
+    private Long messageId;
+    private LLMMessage.Role role;
+    private String message;
+    private ChatbotMessage.Status status;
+}
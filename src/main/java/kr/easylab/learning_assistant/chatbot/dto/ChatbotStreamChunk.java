@@ -0,0 +1,15 @@
+package kr.easylab.learning_assistant.chatbot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ChatbotStreamChunk {
+    private Long messageId;
+
+    // 이 청크까지 포함한 assistant 메시지의 누적 길이
+    private Long offset;
+
+    private String text;
+}
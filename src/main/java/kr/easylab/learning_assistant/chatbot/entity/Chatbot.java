@@ -20,4 +20,8 @@ public class Chatbot {
 
     @Column
     private String prefixPrompt;
+
+    // 오래된 메시지가 ChatbotMessageArchive 로 옮겨졌는지 여부
+    @Column
+    private Boolean archived;
 }
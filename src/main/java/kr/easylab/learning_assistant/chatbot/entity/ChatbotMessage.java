@@ -3,6 +3,9 @@ package kr.easylab.learning_assistant.chatbot.entity;
 import jakarta.persistence.*;
 import kr.easylab.learning_assistant.llm.dto.LLMMessage;
 import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
 
 @Entity
 @Builder
@@ -10,7 +13,17 @@ import lombok.*;
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Setter
+@Table(indexes = {
+    @Index(
+        name = "IX_chatbot_message_chatbot_id_id",
+        columnList = "chatbot_id, chatbot_message_id"
+    )
+})
 public class ChatbotMessage {
+    public enum Status {
+        STREAMING, COMPLETED, INTERRUPTED
+    }
+
     @Id
     @GeneratedValue
     @Column(name = "chatbot_message_id", nullable = false)
@@ -25,4 +38,13 @@ public class ChatbotMessage {
 
     @Column(nullable = false, length = 100000)
     private String message;
+
+    // null 인 경우 스트리밍 도입 이전에 저장된 완료 메시지
+    @Column
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    @Column
+    @CreationTimestamp
+    private LocalDateTime createdAt;
 }
@@ -0,0 +1,36 @@
+package kr.easylab.learning_assistant.chatbot.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Setter
+public class ChatbotMessageArchive {
+    @Id
+    @GeneratedValue
+    @Column(name = "chatbot_message_archive_id", nullable = false)
+    private Long id;
+
+    @JoinColumn(name = "chatbot_id", nullable = false, unique = true)
+    @OneToOne(fetch = FetchType.LAZY)
+    private Chatbot chatbot;
+
+    @Column(nullable = false)
+    private Long messageCount;
+
+    @Column(nullable = false)
+    private Long lastMessageId;
+
+    // 메시지 목록을 JSON 으로 직렬화한 뒤 gzip 으로 압축한 값
+    @Column(nullable = false, length = 100_000_000)
+    private byte[] payload;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
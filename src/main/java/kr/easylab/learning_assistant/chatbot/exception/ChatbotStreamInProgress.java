@@ -0,0 +1,12 @@
+package kr.easylab.learning_assistant.chatbot.exception;
+
+import kr.easylab.learning_assistant.common.annotation.HTTPResponseAnnotation;
+import kr.easylab.learning_assistant.common.exception.KnownException;
+import org.springframework.http.HttpStatus;
+
+@HTTPResponseAnnotation(status = HttpStatus.CONFLICT, errorCode = "CHATBOT_STREAM_IN_PROGRESS")
+public class ChatbotStreamInProgress extends KnownException {
+    public ChatbotStreamInProgress() {
+        super("이전 질문에 대한 답변을 생성하고 있습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,12 @@
+package kr.easylab.learning_assistant.chatbot.exception;
+
+import kr.easylab.learning_assistant.common.annotation.HTTPResponseAnnotation;
+import kr.easylab.learning_assistant.common.exception.KnownException;
+import org.springframework.http.HttpStatus;
+
+@HTTPResponseAnnotation(status = HttpStatus.NOT_FOUND, errorCode = "NOT_FOUND_CHATBOT_MESSAGE")
+public class NotFoundChatbotMessage extends KnownException {
+    public NotFoundChatbotMessage() {
+        super("Chatbot 메시지를 찾을 수 없습니다.");
+    }
+}
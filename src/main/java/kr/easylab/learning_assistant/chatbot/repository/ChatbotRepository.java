@@ -2,16 +2,31 @@ package kr.easylab.learning_assistant.chatbot.repository;
 
 import kr.easylab.learning_assistant.chatbot.entity.Chatbot;
 import kr.easylab.learning_assistant.chatbot.entity.ChatbotMessage;
+import kr.easylab.learning_assistant.chatbot.entity.ChatbotMessageArchive;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface ChatbotRepository {
 
     Chatbot findChatbotById(Long id);
+    ChatbotMessage findChatbotMessageById(Long id);
 
     void save(Chatbot chatbot);
     void save(ChatbotMessage chatbotMessage);
 
+    void appendMessage(Long chatbotMessageId, String text);
+    void updateStatus(Long chatbotMessageId, ChatbotMessage.Status status);
+    int interruptStreamingMessages(LocalDateTime createdBefore);
+
     List<ChatbotMessage> findChatbotMessagesByChatbotId(Long chatbotId, Long limit);
+    List<ChatbotMessage> findChatbotMessagesBefore(Long chatbotId, Long beforeId, Long limit);
+    List<ChatbotMessage> findChatbotMessagesAfter(Long chatbotId, Long afterId, Long limit);
+    void detach(ChatbotMessage chatbotMessage);
+    void deleteChatbotMessages(Long chatbotId, Long lastMessageId);
+
+    ChatbotMessageArchive findArchiveByChatbotId(Long chatbotId);
+    void save(ChatbotMessageArchive archive);
+    List<Long> findIdleChatbotIds(LocalDateTime lastMessageBefore, Long limit);
 }
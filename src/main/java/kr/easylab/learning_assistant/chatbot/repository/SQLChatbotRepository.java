@@ -1,11 +1,14 @@
 package kr.easylab.learning_assistant.chatbot.repository;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import kr.easylab.learning_assistant.chatbot.entity.Chatbot;
 import kr.easylab.learning_assistant.chatbot.entity.ChatbotMessage;
+import kr.easylab.learning_assistant.chatbot.entity.ChatbotMessageArchive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
@@ -19,6 +22,11 @@ public class SQLChatbotRepository implements ChatbotRepository {
         return em.find(Chatbot.class, id);
     }
 
+    @Override
+    public ChatbotMessage findChatbotMessageById(Long id) {
+        return em.find(ChatbotMessage.class, id);
+    }
+
     @Override
     public void save(Chatbot chatbot) {
         em.persist(chatbot);
@@ -29,13 +37,105 @@ public class SQLChatbotRepository implements ChatbotRepository {
         em.persist(chatbotMessage);
     }
 
+    @Override
+    public void appendMessage(Long chatbotMessageId, String text) {
+        // 메시지 전체를 읽지 않고 DB 에서 바로 이어붙인다.
+        em.createQuery("UPDATE ChatbotMessage c SET c.message = CONCAT(c.message, :text) WHERE c.id = :id")
+                .setParameter("text", text)
+                .setParameter("id", chatbotMessageId)
+                .executeUpdate();
+    }
+
+    @Override
+    public void updateStatus(Long chatbotMessageId, ChatbotMessage.Status status) {
+        em.createQuery("UPDATE ChatbotMessage c SET c.status = :status WHERE c.id = :id")
+                .setParameter("status", status)
+                .setParameter("id", chatbotMessageId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int interruptStreamingMessages(LocalDateTime createdBefore) {
+        return em.createQuery("UPDATE ChatbotMessage c SET c.status = :interrupted WHERE c.status = :streaming AND c.createdAt < :createdBefore")
+                .setParameter("interrupted", ChatbotMessage.Status.INTERRUPTED)
+                .setParameter("streaming", ChatbotMessage.Status.STREAMING)
+                .setParameter("createdBefore", createdBefore)
+                .executeUpdate();
+    }
+
     @Override
     public List<ChatbotMessage> findChatbotMessagesByChatbotId(Long chatbotId, Long limit) {
-        List<ChatbotMessage> messages = em.createQuery("SELECT c FROM ChatbotMessage as c WHERE c.chatbot.id = :chatbotId ORDER BY c.id DESC", ChatbotMessage.class)
+        List<ChatbotMessage> messages = findChatbotMessagesBefore(chatbotId, null, limit);
+        Collections.reverse(messages);
+        return messages;
+    }
+
+    // (chatbot_id, chatbot_message_id) 인덱스를 타는 keyset 페이지 조회. 최신 메시지부터 반환한다.
+    @Override
+    public List<ChatbotMessage> findChatbotMessagesBefore(Long chatbotId, Long beforeId, Long limit) {
+        String query = beforeId == null
+                ? "SELECT c FROM ChatbotMessage as c WHERE c.chatbot.id = :chatbotId ORDER BY c.id DESC"
+                : "SELECT c FROM ChatbotMessage as c WHERE c.chatbot.id = :chatbotId AND c.id < :beforeId ORDER BY c.id DESC";
+
+        TypedQuery<ChatbotMessage> typedQuery = em.createQuery(query, ChatbotMessage.class)
+                .setParameter("chatbotId", chatbotId)
+                .setMaxResults(limit.intValue());
+        if (beforeId != null)
+            typedQuery.setParameter("beforeId", beforeId);
+        return typedQuery.getResultList();
+    }
+
+    // 오래된 메시지부터 afterId 다음 limit 개를 반환한다.
+    @Override
+    public List<ChatbotMessage> findChatbotMessagesAfter(Long chatbotId, Long afterId, Long limit) {
+        String query = afterId == null
+                ? "SELECT c FROM ChatbotMessage as c WHERE c.chatbot.id = :chatbotId ORDER BY c.id"
+                : "SELECT c FROM ChatbotMessage as c WHERE c.chatbot.id = :chatbotId AND c.id > :afterId ORDER BY c.id";
+
+        TypedQuery<ChatbotMessage> typedQuery = em.createQuery(query, ChatbotMessage.class)
                 .setParameter("chatbotId", chatbotId)
+                .setMaxResults(limit.intValue());
+        if (afterId != null)
+            typedQuery.setParameter("afterId", afterId);
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public void detach(ChatbotMessage chatbotMessage) {
+        em.detach(chatbotMessage);
+    }
+
+    @Override
+    public void deleteChatbotMessages(Long chatbotId, Long lastMessageId) {
+        em.createQuery("DELETE FROM ChatbotMessage c WHERE c.chatbot.id = :chatbotId AND c.id <= :lastMessageId")
+                .setParameter("chatbotId", chatbotId)
+                .setParameter("lastMessageId", lastMessageId)
+                .executeUpdate();
+    }
+
+    @Override
+    public ChatbotMessageArchive findArchiveByChatbotId(Long chatbotId) {
+        return em.createQuery("SELECT a FROM ChatbotMessageArchive a WHERE a.chatbot.id = :chatbotId", ChatbotMessageArchive.class)
+                .setParameter("chatbotId", chatbotId)
+                .getResultStream()
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Override
+    public void save(ChatbotMessageArchive archive) {
+        em.persist(archive);
+    }
+
+    @Override
+    public List<Long> findIdleChatbotIds(LocalDateTime lastMessageBefore, Long limit) {
+        // created_at 도입 이전에 저장된 메시지만 있는 경우 MAX 가 null 이므로 오래된 대화로 취급
+        return em.createQuery("""
+                        SELECT c.chatbot.id FROM ChatbotMessage c GROUP BY c.chatbot.id
+                        HAVING MAX(c.createdAt) IS NULL OR MAX(c.createdAt) < :lastMessageBefore
+                        """, Long.class)
+                .setParameter("lastMessageBefore", lastMessageBefore)
                 .setMaxResults(limit.intValue())
                 .getResultList();
-        Collections.reverse(messages);
-        return messages;
     }
 }
@@ -0,0 +1,24 @@
+package kr.easylab.learning_assistant.chatbot.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatbotArchiveScheduler {
+    private final ChatbotArchiveService chatbotArchiveService;
+
+    @Scheduled(cron = "${chat.archive.cron}")
+    public void archiveIdleChatbots() {
+        for (Long chatbotId : chatbotArchiveService.findIdleChatbotIds()) {
+            try {
+                chatbotArchiveService.archive(chatbotId);
+            } catch (Exception e) {
+                log.error("Failed to archive chatbot {}", chatbotId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package kr.easylab.learning_assistant.chatbot.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.easylab.learning_assistant.chatbot.dto.ArchivedChatbotMessage;
+import kr.easylab.learning_assistant.chatbot.entity.Chatbot;
+import kr.easylab.learning_assistant.chatbot.entity.ChatbotMessage;
+import kr.easylab.learning_assistant.chatbot.entity.ChatbotMessageArchive;
+import kr.easylab.learning_assistant.chatbot.exception.NotFoundChatbot;
+import kr.easylab.learning_assistant.chatbot.repository.ChatbotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class ChatbotArchiveService {
+    private static final TypeReference<List<ArchivedChatbotMessage>> ARCHIVE_TYPE = new TypeReference<>() {};
+
+    private final ChatbotRepository chatbotRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${chat.archive.idle_days}")
+    private long idleDays;
+
+    @Value("${chat.archive.batch_size}")
+    private long batchSize;
+
+    @Value("${chat.archive.page_size}")
+    private long pageSize;
+
+    @Transactional(readOnly = true)
+    public List<Long> findIdleChatbotIds() {
+        return chatbotRepository.findIdleChatbotIds(LocalDateTime.now().minusDays(idleDays), batchSize);
+    }
+
+    // 대화 전체를 chatbot 당 하나의 압축된 blob 으로 옮기고 원본 행은 삭제한다.
+    public void archive(Long chatbotId) {
+        Chatbot chatbot = chatbotRepository.findChatbotById(chatbotId);
+        if (chatbot == null)
+            throw new NotFoundChatbot();
+
+        // 대화가 길어도 한 번에 모두 읽지 않도록 page_size 씩 keyset 으로 읽고, 옮긴 메시지는 영속성 컨텍스트에서 분리
+        List<ArchivedChatbotMessage> moved = new ArrayList<>();
+        Long lastMessageId = null;
+        List<ChatbotMessage> messages;
+        do {
+            messages = chatbotRepository.findChatbotMessagesAfter(chatbotId, lastMessageId, pageSize);
+            for (ChatbotMessage message : messages) {
+                moved.add(ArchivedChatbotMessage.builder()
+                        .id(message.getId())
+                        .role(message.getRole())
+                        .message(message.getMessage())
+                        .status(message.getStatus())
+                        .createdAt(message.getCreatedAt())
+                        .build());
+                lastMessageId = message.getId();
+                chatbotRepository.detach(message);
+            }
+        } while (messages.size() == pageSize);
+        if (moved.isEmpty())
+            return;
+
+        ChatbotMessageArchive archive = chatbotRepository.findArchiveByChatbotId(chatbotId);
+        List<ArchivedChatbotMessage> archived = archive == null ? new ArrayList<>() : decode(archive.getPayload());
+        archived.addAll(moved);
+
+        boolean created = archive == null;
+        if (created) {
+            archive = ChatbotMessageArchive.builder()
+                    .chatbot(chatbot)
+                    .build();
+        }
+        archive.setPayload(encode(archived));
+        archive.setMessageCount((long) archived.size());
+        archive.setLastMessageId(lastMessageId);
+        archive.setArchivedAt(LocalDateTime.now());
+        // INSERT 는 persist 시점의 값으로 실행되므로 NOT NULL 컬럼을 채운 뒤 저장
+        if (created)
+            chatbotRepository.save(archive);
+
+        chatbotRepository.deleteChatbotMessages(chatbotId, lastMessageId);
+        chatbot.setArchived(true);
+        log.info("Archived {} messages of chatbot {}", moved.size(), chatbotId);
+    }
+
+    // 아카이브된 메시지를 최신 메시지부터 beforeId 이전 limit 개 반환한다.
+    @Transactional(readOnly = true)
+    public List<ChatbotMessage> findArchivedMessages(Chatbot chatbot, Long beforeId, Long limit) {
+        ChatbotMessageArchive archive = chatbotRepository.findArchiveByChatbotId(chatbot.getId());
+        if (archive == null)
+            return List.of();
+
+        return decode(archive.getPayload())
+                .stream()
+                .filter(message -> beforeId == null || message.getId() < beforeId)
+                .sorted(Comparator.comparing(ArchivedChatbotMessage::getId).reversed())
+                .limit(limit)
+                .map(message -> ChatbotMessage.builder()
+                        .id(message.getId())
+                        .chatbot(chatbot)
+                        .role(message.getRole())
+                        .message(message.getMessage())
+                        .status(message.getStatus())
+                        .createdAt(message.getCreatedAt())
+                        .build())
+                .toList();
+    }
+
+    private byte[] encode(List<ArchivedChatbotMessage> messages) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, messages);
+        } catch (IOException e) {
+            throw new RuntimeException("Chatbot 메시지를 압축하는 중 오류가 발생했습니다.", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<ArchivedChatbotMessage> decode(byte[] payload) {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return new ArrayList<>(objectMapper.readValue(gzip, ARCHIVE_TYPE));
+        } catch (IOException e) {
+            throw new RuntimeException("Chatbot 메시지 아카이브를 읽는 중 오류가 발생했습니다.", e);
+        }
+    }
+}
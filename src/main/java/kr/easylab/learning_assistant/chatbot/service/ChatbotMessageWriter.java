@@ -0,0 +1,73 @@
+package kr.easylab.learning_assistant.chatbot.service;
+
+import kr.easylab.learning_assistant.chatbot.dto.ChatbotStreamChunk;
+import kr.easylab.learning_assistant.chatbot.entity.ChatbotMessage;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+// 스트리밍 중인 assistant 메시지를 일정 크기/시간 단위로 나누어 DB 에 이어붙인다.
+// 하나의 Worker 에서 순서대로 실행되므로 append 와 상태 변경의 순서가 보장된다.
+@Slf4j
+class ChatbotMessageWriter {
+    private final ChatbotService chatbotService;
+    private final Long messageId;
+    private final int maxChars;
+    private final long intervalNanos;
+
+    private final Scheduler.Worker worker = Schedulers.boundedElastic().createWorker();
+    private final StringBuilder pending = new StringBuilder();
+    private long offset = 0;
+    private long lastFlushNanos = System.nanoTime();
+
+    ChatbotMessageWriter(ChatbotService chatbotService, Long messageId, int maxChars, Duration interval) {
+        this.chatbotService = chatbotService;
+        this.messageId = messageId;
+        this.maxChars = maxChars;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    synchronized ChatbotStreamChunk append(String text) {
+        pending.append(text);
+        offset += text.length();
+        if (pending.length() >= maxChars || System.nanoTime() - lastFlushNanos >= intervalNanos) {
+            flush();
+        }
+        return new ChatbotStreamChunk(messageId, offset, text);
+    }
+
+    synchronized void close(SignalType signal) {
+        flush();
+        ChatbotMessage.Status status = signal == SignalType.ON_COMPLETE
+                ? ChatbotMessage.Status.COMPLETED
+                : ChatbotMessage.Status.INTERRUPTED;
+        worker.schedule(() -> {
+            try {
+                chatbotService.finishAssistantMessage(messageId, status);
+            } catch (Exception e) {
+                log.error("Failed to finish chatbot message {}", messageId, e);
+            } finally {
+                worker.dispose();
+            }
+        });
+    }
+
+    private void flush() {
+        lastFlushNanos = System.nanoTime();
+        if (pending.isEmpty()) {
+            return;
+        }
+        String text = pending.toString();
+        pending.setLength(0);
+        worker.schedule(() -> {
+            try {
+                chatbotService.appendAssistantMessage(messageId, text);
+            } catch (Exception e) {
+                log.error("Failed to append chatbot message {}", messageId, e);
+            }
+        });
+    }
+}
@@ -1,5 +1,7 @@
 package kr.easylab.learning_assistant.chatbot.service;
 
+import kr.easylab.learning_assistant.chatbot.dto.ChatbotMessagePageResponse;
+import kr.easylab.learning_assistant.chatbot.dto.ChatbotStreamChunk;
 import kr.easylab.learning_assistant.chatbot.entity.Chatbot;
 import kr.easylab.learning_assistant.chatbot.entity.ChatbotMessage;
 import reactor.core.publisher.Flux;
@@ -11,8 +13,19 @@ public interface ChatbotService {
     Chatbot getChatbot(Long chatbotId);
     void addUserMessage(Long chatbotId, String userMessage);
     void addAssistantMessage(Long chatbotId, String assistantMessage);
+    Long startAssistantMessage(Long chatbotId);
+    void appendAssistantMessage(Long chatbotMessageId, String text);
+    void finishAssistantMessage(Long chatbotMessageId, ChatbotMessage.Status status);
+    int interruptStaleMessages();
+    ChatbotMessage getChatbotMessage(Long chatbotId, Long chatbotMessageId);
+
     String generateMessage(Long chatbotId, String prompt);
-    Flux<String> generateMessageStream(Long chatbotId, String prompt);
+    Flux<ChatbotStreamChunk> generateMessageStream(Long chatbotId, String prompt);
+    Flux<ChatbotStreamChunk> resumeMessageStream(Long chatbotId, Long chatbotMessageId, Long offset);
+
+    Flux<ChatbotStreamChunk> sendMessageStream(Long chatbotId, String userMessage, String prompt);
+    Flux<ChatbotStreamChunk> attachMessageStream(Long chatbotId, Long chatbotMessageId, Long offset);
 
-    List<ChatbotMessage> getChatbotMessages(Long chatbotId, Long limit);
+    List<ChatbotMessage> getChatbotMessages(Long chatbotId, Long beforeId, Long limit);
+    ChatbotMessagePageResponse getChatbotMessagePage(Long chatbotId, Long beforeId, Long limit);
 }
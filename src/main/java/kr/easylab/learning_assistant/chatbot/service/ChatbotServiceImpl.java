@@ -1,44 +1,94 @@
 package kr.easylab.learning_assistant.chatbot.service;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.transaction.Transactional;
+import kr.easylab.learning_assistant.chatbot.dto.ChatbotMessagePageResponse;
+import kr.easylab.learning_assistant.chatbot.dto.ChatbotMessageResponse;
+import kr.easylab.learning_assistant.chatbot.dto.ChatbotStreamChunk;
 import kr.easylab.learning_assistant.chatbot.entity.Chatbot;
 import kr.easylab.learning_assistant.chatbot.entity.ChatbotMessage;
 import kr.easylab.learning_assistant.chatbot.exception.NotFoundChatbot;
+import kr.easylab.learning_assistant.chatbot.exception.NotFoundChatbotMessage;
 import kr.easylab.learning_assistant.chatbot.repository.ChatbotRepository;
+import kr.easylab.learning_assistant.llm.dto.LLMCallSite;
 import kr.easylab.learning_assistant.llm.dto.LLMConfig;
 import kr.easylab.learning_assistant.llm.dto.LLMMessage;
 import kr.easylab.learning_assistant.llm.service.LLMService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 @Transactional
 public class ChatbotServiceImpl implements ChatbotService {
     private final ChatbotRepository chatbotRepository;
     private final LLMService llmService;
+    private final ChatbotStreamBroker chatbotStreamBroker;
+    private final ChatbotArchiveService chatbotArchiveService;
 
     private final ChatbotServiceImpl self;
-    public ChatbotServiceImpl(ChatbotRepository chatbotRepository, LLMService llmService, @Lazy ChatbotServiceImpl self) {
+
+    private final DistributionSummary contextMessages;
+    private final DistributionSummary contextChars;
+
+    @Value("${chat.stream.persist_max_chars}")
+    private int persistMaxChars;
+
+    @Value("${chat.stream.persist_interval}")
+    private Duration persistInterval;
+
+    @Value("${chat.stream.resume_poll_interval}")
+    private Duration resumePollInterval;
+
+    @Value("${chat.stream.resume_timeout}")
+    private Duration resumeTimeout;
+
+    @Value("${chat.stream.stale_after}")
+    private Duration staleAfter;
+
+    public ChatbotServiceImpl(ChatbotRepository chatbotRepository, LLMService llmService, ChatbotStreamBroker chatbotStreamBroker, ChatbotArchiveService chatbotArchiveService, @Lazy ChatbotServiceImpl self, MeterRegistry meterRegistry) {
         this.chatbotRepository = chatbotRepository;
         this.llmService = llmService;
+        this.chatbotStreamBroker = chatbotStreamBroker;
+        this.chatbotArchiveService = chatbotArchiveService;
         this.self = self;
+        this.contextMessages = DistributionSummary.builder("chat.context.messages")
+                .baseUnit("messages")
+                .register(meterRegistry);
+        this.contextChars = DistributionSummary.builder("chat.context.chars")
+                .baseUnit("chars")
+                .register(meterRegistry);
     }
 
     private List<LLMMessage> getMessages(Long chatbotId) {
-        return chatbotRepository.findChatbotMessagesByChatbotId(chatbotId, 20L)
+        List<LLMMessage> messages = getChatbotMessages(chatbotId, null, 20L)
+                .reversed()
                 .stream()
+                // 스트리밍 직후 중단되어 내용이 없는 메시지는 컨텍스트에서 제외
+                .filter(chatbotMessage -> !chatbotMessage.getMessage().isEmpty())
                 .map(chatbotMessage -> {
                     return LLMMessage.builder()
                             .role(chatbotMessage.getRole())
                             .text(chatbotMessage.getMessage())
                             .build();
                 }).toList();
+
+        // LLM 에 함께 보내는 대화 기록의 크기
+        contextMessages.record(messages.size());
+        contextChars.record(messages.stream().mapToInt(message -> message.getText().length()).sum());
+        return messages;
     }
 
     public Chatbot getChatbot(Long chatbotId) throws NotFoundChatbot {
@@ -86,27 +136,168 @@ public class ChatbotServiceImpl implements ChatbotService {
         Chatbot chatbot = getChatbot(chatbotId);
 
         String finalPrompt = chatbot.getPrefixPrompt() + "\n" + prompt;
-        String generatedMessage = llmService.generate(getMessages(chatbotId), LLMConfig.builder().prompt(finalPrompt).build());
+        String generatedMessage = llmService.generate(getMessages(chatbotId), LLMConfig.builder().prompt(finalPrompt).callSite(LLMCallSite.CHAT).build());
         addAssistantMessage(chatbotId, generatedMessage);
 
         return generatedMessage;
     }
 
     @Override
-    public Flux<String> generateMessageStream(Long chatbotId, String prompt) {
+    public Long startAssistantMessage(Long chatbotId) {
+        Chatbot chatbot = getChatbot(chatbotId);
+
+        ChatbotMessage message = ChatbotMessage.builder()
+                .chatbot(chatbot)
+                .role(LLMMessage.Role.ASSISTANT)
+                .message("")
+                .status(ChatbotMessage.Status.STREAMING)
+                .build();
+        chatbotRepository.save(message);
+        return message.getId();
+    }
+
+    @Override
+    public void appendAssistantMessage(Long chatbotMessageId, String text) {
+        chatbotRepository.appendMessage(chatbotMessageId, text);
+    }
+
+    @Override
+    public void finishAssistantMessage(Long chatbotMessageId, ChatbotMessage.Status status) {
+        chatbotRepository.updateStatus(chatbotMessageId, status);
+    }
+
+    // 생성 중에 노드가 종료되면 STREAMING 으로 남아 이어받는 쪽이 끝을 알 수 없으므로, 오래된 메시지는 중단된 것으로 처리
+    @Override
+    public int interruptStaleMessages() {
+        return chatbotRepository.interruptStreamingMessages(LocalDateTime.now().minus(staleAfter));
+    }
+
+    @Override
+    public ChatbotMessage getChatbotMessage(Long chatbotId, Long chatbotMessageId) throws NotFoundChatbotMessage {
+        ChatbotMessage message = chatbotRepository.findChatbotMessageById(chatbotMessageId);
+        if (message == null || !message.getChatbot().getId().equals(chatbotId))
+            throw new NotFoundChatbotMessage();
+        return message;
+    }
+
+    @Override
+    public Flux<ChatbotStreamChunk> generateMessageStream(Long chatbotId, String prompt) {
         Chatbot chatbot = getChatbot(chatbotId);
 
         String finalPrompt = chatbot.getPrefixPrompt() + "\n" + prompt;
-        StringBuilder sb = new StringBuilder();
+        List<LLMMessage> messages = getMessages(chatbotId);
+        Long messageId = startAssistantMessage(chatbotId);
+
+        // 응답 전체를 메모리에 모으지 않고, 부분 응답을 주기적으로 저장하여 연결이 끊겨도 이어받을 수 있도록 함
+        return Flux.defer(() -> {
+            ChatbotMessageWriter writer = new ChatbotMessageWriter(self, messageId, persistMaxChars, persistInterval);
+            return llmService.generateStream(messages, LLMConfig.builder().prompt(finalPrompt).callSite(LLMCallSite.CHAT_STREAM).build())
+                    .map(writer::append)
+                    .doFinally(writer::close);
+        });
+    }
+
+    @Override
+    public Flux<ChatbotStreamChunk> resumeMessageStream(Long chatbotId, Long chatbotMessageId, Long offset) {
+        getChatbotMessage(chatbotId, chatbotMessageId);
+
+        // LLM 을 다시 호출하지 않고, 저장된 메시지를 주기적으로 읽어 offset 이후의 내용만 전달
+        // resume_timeout 동안 새 내용이 없으면 생성이 멈춘 것으로 보고 이어받기를 끝냄
+        // 오류로 끝내면 EventSource 가 같은 Last-Event-ID 로 다시 연결하므로 정상 종료로 끝냄
+        AtomicLong cursor = new AtomicLong(offset);
+        return Flux.interval(Duration.ZERO, resumePollInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> Mono.fromCallable(() -> self.getChatbotMessage(chatbotId, chatbotMessageId))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .takeUntil(message -> message.getStatus() != ChatbotMessage.Status.STREAMING)
+                .concatMap(message -> {
+                    String text = message.getMessage();
+                    if (text.length() <= cursor.get())
+                        return Mono.empty();
+
+                    String tail = text.substring((int) cursor.get());
+                    cursor.set(text.length());
+                    return Mono.just(new ChatbotStreamChunk(chatbotMessageId, (long) text.length(), tail));
+                })
+                .timeout(resumeTimeout, Flux.empty());
+    }
+
+    @Override
+    public Flux<ChatbotStreamChunk> sendMessageStream(Long chatbotId, String userMessage, String prompt) {
+        // 새로고침이나 다른 탭에서 같은 요청을 보내면 새로 생성하지 않고 진행 중인 스트림에 합류
+        return chatbotStreamBroker.publish(chatbotId, userMessage, () -> {
+            addUserMessage(chatbotId, userMessage);
+            return generateMessageStream(chatbotId, prompt);
+        });
+    }
+
+    @Override
+    public Flux<ChatbotStreamChunk> attachMessageStream(Long chatbotId, Long chatbotMessageId, Long offset) {
+        Flux<ChatbotStreamChunk> inFlight = chatbotStreamBroker.attach(chatbotId).orElse(null);
+        if (inFlight == null) {
+            return chatbotMessageId == null ? Flux.empty() : resumeMessageStream(chatbotId, chatbotMessageId, offset);
+        }
+
+        return inFlight.switchOnFirst((signal, chunks) -> {
+            ChatbotStreamChunk first = signal.get();
+            if (first == null)
+                return chunks;
 
-        return llmService.generateStream(getMessages(chatbotId), LLMConfig.builder().prompt(finalPrompt).build())
-                .doOnNext(sb::append)
-                .publishOn(Schedulers.boundedElastic())
-                .doOnComplete(() -> self.addAssistantMessage(chatbotId, sb.toString()));
+            // 진행 중인 스트림이 요청한 메시지가 아니라면 이미 끝난 메시지이므로 저장된 내용으로 이어받음
+            if (chatbotMessageId != null && !first.getMessageId().equals(chatbotMessageId))
+                return resumeMessageStream(chatbotId, chatbotMessageId, offset);
+
+            Flux<ChatbotStreamChunk> live = chunks.handle((chunk, sink) -> {
+                long start = chunk.getOffset() - chunk.getText().length();
+                if (chunk.getOffset() <= offset)
+                    return;
+                if (start < offset)
+                    sink.next(new ChatbotStreamChunk(chunk.getMessageId(), chunk.getOffset(), chunk.getText().substring((int) (offset - start))));
+                else
+                    sink.next(chunk);
+            });
+            long replayStart = first.getOffset() - first.getText().length();
+            if (replayStart <= offset)
+                return live;
+
+            // 재생 버퍼에서 밀려난 앞부분은 저장된 메시지로 채움
+            // 저장이 아직 재생 버퍼의 시작까지 따라오지 못했다면 중간이 비므로 저장된 메시지만으로 이어받음
+            return Mono.fromCallable(() -> self.getChatbotMessage(chatbotId, first.getMessageId()).getMessage())
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMapMany(text -> text.length() < replayStart
+                            ? resumeMessageStream(chatbotId, first.getMessageId(), offset)
+                            : Flux.just(new ChatbotStreamChunk(first.getMessageId(), replayStart, text.substring(offset.intValue(), (int) replayStart)))
+                                    .concatWith(live));
+        });
     }
 
     @Override
-    public List<ChatbotMessage> getChatbotMessages(Long chatbotId, Long limit) {
-        return List.of();
+    public List<ChatbotMessage> getChatbotMessages(Long chatbotId, Long beforeId, Long limit) {
+        Chatbot chatbot = getChatbot(chatbotId);
+
+        List<ChatbotMessage> messages = new ArrayList<>(chatbotRepository.findChatbotMessagesBefore(chatbotId, beforeId, limit));
+        // 최근 메시지로 부족한 경우에만 아카이브를 조회
+        if (messages.size() < limit && Boolean.TRUE.equals(chatbot.getArchived())) {
+            Long cursor = messages.isEmpty() ? beforeId : messages.getLast().getId();
+            messages.addAll(chatbotArchiveService.findArchivedMessages(chatbot, cursor, limit - messages.size()));
+        }
+        return messages;
+    }
+
+    @Override
+    public ChatbotMessagePageResponse getChatbotMessagePage(Long chatbotId, Long beforeId, Long limit) {
+        List<ChatbotMessage> messages = getChatbotMessages(chatbotId, beforeId, limit);
+
+        return ChatbotMessagePageResponse.builder()
+                .messages(messages.stream()
+                        .map(message -> ChatbotMessageResponse.builder()
+                                .messageId(message.getId())
+                                .role(message.getRole())
+                                .message(message.getMessage())
+                                .status(message.getStatus())
+                                .build())
+                        .toList())
+                .nextBeforeId(messages.size() < limit ? null : messages.getLast().getId())
+                .build();
     }
 }
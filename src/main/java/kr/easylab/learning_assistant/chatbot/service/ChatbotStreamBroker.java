@@ -0,0 +1,19 @@
+package kr.easylab.learning_assistant.chatbot.service;
+
+import kr.easylab.learning_assistant.chatbot.dto.ChatbotStreamChunk;
+import kr.easylab.learning_assistant.chatbot.exception.ChatbotStreamInProgress;
+import reactor.core.publisher.Flux;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public interface ChatbotStreamBroker {
+    // 같은 chatbot 에 동일한 요청이 진행 중이면 해당 스트림에 합류하고, 없으면 generator 로 새 스트림을 시작한다.
+    Flux<ChatbotStreamChunk> publish(Long chatbotId, String requestKey, Supplier<Flux<ChatbotStreamChunk>> generator) throws ChatbotStreamInProgress;
+
+    // 진행 중인 스트림이 있으면 이미 생성된 청크부터 다시 받아볼 수 있는 스트림을 반환한다.
+    Optional<Flux<ChatbotStreamChunk>> attach(Long chatbotId);
+
+    // 현재 생성 중인 스트림 수
+    int getActiveStreams();
+}
@@ -0,0 +1,20 @@
+package kr.easylab.learning_assistant.chatbot.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatbotStreamSweeper {
+    private final ChatbotService chatbotService;
+
+    @Scheduled(cron = "${chat.stream.sweep_cron}")
+    public void interruptStaleMessages() {
+        int interrupted = chatbotService.interruptStaleMessages();
+        if (interrupted > 0)
+            log.info("Marked {} stale streaming chatbot messages as interrupted", interrupted);
+    }
+}
@@ -0,0 +1,98 @@
+package kr.easylab.learning_assistant.chatbot.service;
+
+import kr.easylab.learning_assistant.chatbot.dto.ChatbotStreamChunk;
+import kr.easylab.learning_assistant.chatbot.exception.ChatbotStreamInProgress;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// 단일 인스턴스용 브로커. 여러 노드로 운영할 경우 공유 브로커 구현으로 교체한다.
+@Service
+@Slf4j
+public class LocalChatbotStreamBroker implements ChatbotStreamBroker {
+    private final Map<Long, InFlightStream> streams = new ConcurrentHashMap<>();
+
+    @Value("${chat.stream.broker.replay_chunks}")
+    private int replayChunks;
+
+    @Value("${chat.stream.broker.grace_period}")
+    private Duration gracePeriod;
+
+    private class InFlightStream {
+        private final Long chatbotId;
+        private final String requestKey;
+        // generator 는 맵에 등록한 뒤 잠금 밖에서 실행하므로, 먼저 합류한 구독자는 source 가 정해질 때까지 기다림
+        private final Sinks.One<Flux<ChatbotStreamChunk>> source = Sinks.one();
+        private final AtomicBoolean connected = new AtomicBoolean();
+        private final Flux<ChatbotStreamChunk> chunks;
+
+        InFlightStream(Long chatbotId, String requestKey) {
+            this.chatbotId = chatbotId;
+            this.requestKey = requestKey;
+
+            // 종료된 스트림에 늦게 구독하더라도 LLM 을 다시 호출하지 않도록 한 번만 연결한다.
+            this.chunks = Flux.defer(() -> connected.compareAndSet(false, true)
+                            ? source.asMono().flatMapMany(Function.identity())
+                            : Flux.<ChatbotStreamChunk>empty())
+                    .doFinally(signal -> {
+                        streams.remove(chatbotId, this);
+                        log.debug("Chatbot {} stream finished: {}", chatbotId, signal);
+                    })
+                    // 마지막 구독자가 떠나도 grace period 동안은 생성을 유지하여 새로고침한 사용자가 다시 합류할 수 있도록 함
+                    .replay(replayChunks)
+                    .refCount(1, gracePeriod);
+        }
+
+        private void start(Supplier<Flux<ChatbotStreamChunk>> generator) {
+            try {
+                source.tryEmitValue(generator.get());
+            } catch (RuntimeException e) {
+                streams.remove(chatbotId, this);
+                source.tryEmitError(e);
+                throw e;
+            }
+
+            // 응답을 보내기 전에 요청이 실패하는 등 아무도 구독하지 않으면 doFinally 가 호출되지 않으므로 grace period 뒤에 제거
+            Mono.delay(gracePeriod).subscribe(tick -> {
+                if (!connected.get() && streams.remove(chatbotId, this))
+                    log.debug("Chatbot {} stream was never subscribed", chatbotId);
+            });
+        }
+    }
+
+    @Override
+    public Flux<ChatbotStreamChunk> publish(Long chatbotId, String requestKey, Supplier<Flux<ChatbotStreamChunk>> generator) {
+        InFlightStream created = new InFlightStream(chatbotId, requestKey);
+        InFlightStream stream = streams.putIfAbsent(chatbotId, created);
+        if (stream == null) {
+            // 메시지 저장 등 DB 작업이 있으므로 ConcurrentHashMap 의 잠금 밖에서 실행
+            created.start(generator);
+            return created.chunks;
+        }
+
+        if (!stream.requestKey.equals(requestKey))
+            throw new ChatbotStreamInProgress();
+        return stream.chunks;
+    }
+
+    @Override
+    public Optional<Flux<ChatbotStreamChunk>> attach(Long chatbotId) {
+        return Optional.ofNullable(streams.get(chatbotId)).map(stream -> stream.chunks);
+    }
+
+    @Override
+    public int getActiveStreams() {
+        return streams.size();
+    }
+}
@@ -0,0 +1,137 @@
+package kr.easylab.learning_assistant.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+// 리소스 버전(ETag)별로 JSON 직렬화 결과와 gzip 압축본을 보관하여, 같은 버전 요청에는 바이트를 그대로 응답
+@Component
+public class SerializedResponseCache {
+    @AllArgsConstructor
+    private static class Entry {
+        private final byte[] json;
+
+        // 작은 응답은 압축하지 않으므로 null
+        private final byte[] gzip;
+
+        private int weight() {
+            return json.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Entry> cache;
+    private final int gzipMinBytes;
+
+    public SerializedResponseCache(
+            ObjectMapper objectMapper,
+            @Value("${response_cache.max_bytes}") long maxBytes,
+            @Value("${response_cache.gzip_min_bytes}") int gzipMinBytes) {
+        this.objectMapper = objectMapper;
+        this.gzipMinBytes = gzipMinBytes;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maxBytes)
+                .<String, Entry>weigher((key, entry) -> entry.weight())
+                .recordStats()
+                .build();
+    }
+
+    // If-None-Match 가 일치하면 304 를 설정하고 null 을 반환하므로 컨트롤러는 그대로 반환하면 됨
+    // gzip 압축본은 원본과 바이트가 다른 표현이므로 ETag 에 -gzip 을 붙여 구분
+    public ResponseEntity<byte[]> respond(WebRequest request, String key, String etag, CacheControl cacheControl, Supplier<?> body) {
+        boolean acceptsGzip = acceptsGzip(request);
+        String gzipETag = gzipETag(etag);
+        // 압축 여부는 본문 크기로 정해지므로, 압축본을 받아 간 적이 있고 지금도 gzip 을 받는 클라이언트만 압축본 ETag 로 비교
+        // checkNotModified 는 일치하지 않아도 응답에 ETag 헤더를 남기므로 If-None-Match 에 있을 때만 호출
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            String cachedETag = acceptsGzip && ifNoneMatch.contains(gzipETag) ? gzipETag : etag;
+            if (ifNoneMatch.contains(cachedETag) && request.checkNotModified(cachedETag))
+                return null;
+        }
+
+        Entry entry;
+        try {
+            // 같은 버전을 동시에 요청해도 본문은 한 번만 만들어짐
+            entry = cache.get(key + "@" + etag, () -> serialize(body.get()));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException)
+                throw runtimeException;
+            throw new IllegalStateException(e.getCause());
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (entry.gzip != null && acceptsGzip)
+            return builder.eTag(gzipETag).header(HttpHeaders.CONTENT_ENCODING, "gzip").body(entry.gzip);
+        return builder.eTag(etag).body(entry.json);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    private Entry serialize(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            return new Entry(json, json.length < gzipMinBytes ? null : gzip(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] gzip(byte[] json) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    // "v" -> "v-gzip", W/"v" -> W/"v-gzip"
+    private String gzipETag(String etag) {
+        if (etag.endsWith("\""))
+            return etag.substring(0, etag.length() - 1) + "-gzip\"";
+        return etag + "-gzip";
+    }
+
+    private boolean acceptsGzip(WebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null)
+            return false;
+
+        for (String encoding : acceptEncoding.split(",")) {
+            String[] parts = encoding.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip"))
+                continue;
+            return parts.length < 2 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+        }
+        return false;
+    }
+}
@@ -0,0 +1,54 @@
+package kr.easylab.learning_assistant.common.cache;
+
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// 조회 결과(hit/miss)를 세는 ConcurrentMapCache. @Cacheable(sync = true) 는 get(key, loader) 를 사용함
+public class StatisticsConcurrentMapCache extends ConcurrentMapCache {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public StatisticsConcurrentMapCache(String name) {
+        this(name, new ConcurrentHashMap<>(256));
+    }
+
+    // 만료 정책이 있는 저장소(Guava Cache.asMap() 등)를 사용할 때
+    public StatisticsConcurrentMapCache(String name, ConcurrentMap<Object, Object> store) {
+        super(name, store, true);
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = super.lookup(key);
+        (value == null ? misses : hits).increment();
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        AtomicBoolean loaded = new AtomicBoolean();
+        T value = super.get(key, () -> {
+            loaded.set(true);
+            return valueLoader.call();
+        });
+        (loaded.get() ? misses : hits).increment();
+        return value;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long size() {
+        return getNativeCache().size();
+    }
+}
@@ -0,0 +1,55 @@
+package kr.easylab.learning_assistant.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+
+// 복제본의 지연 시간을 주기적으로 확인하여, 허용치를 넘거나 확인에 실패하면 읽기도 주 DB 로 보냄
+@Slf4j
+public class ReplicaLagMonitor {
+    private final DataSource replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+
+    private volatile boolean replicaAvailable = false;
+    private volatile double lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag_check_interval}")
+    public void check() {
+        boolean available;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            resultSet.next();
+            lagSeconds = resultSet.getDouble(1);
+            available = lagSeconds * 1000 <= maxLag.toMillis();
+        } catch (Exception e) {
+            log.warn("Replica lag check failed: {}", e.getMessage());
+            lagSeconds = -1;
+            available = false;
+        }
+
+        if (available != replicaAvailable)
+            log.info("Read replica {} (lag {}s).", available ? "enabled" : "disabled", lagSeconds);
+        replicaAvailable = available;
+    }
+}
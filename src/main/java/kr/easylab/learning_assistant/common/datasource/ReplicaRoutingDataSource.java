@@ -0,0 +1,38 @@
+package kr.easylab.learning_assistant.common.datasource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// 읽기 전용 연결에 쓰이며, 복제 지연이 크면 주 DB 로 연결
+// JPA 는 트랜잭션 동기화가 준비되기 전에 연결을 얻으므로 트랜잭션 속성이 아닌 연결의 readOnly 로 구분해야 함.
+// create 로 만든 LazyConnectionDataSourceProxy 가 setReadOnly(true) 된 연결만 이쪽으로 보냄
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    // 읽기 전용 트랜잭션은 복제본으로, 그 외는 주 DB 로 연결하는 데이터 소스
+    public static DataSource create(DataSource primary, DataSource replica, ReplicaLagMonitor replicaLagMonitor) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, replica, replicaLagMonitor));
+        return dataSource;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return replicaLagMonitor.isReplicaAvailable() ? Route.REPLICA : Route.PRIMARY;
+    }
+}
@@ -0,0 +1,208 @@
+package kr.easylab.learning_assistant.common.performance;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.exporter.FinishedSpan;
+import kr.easylab.learning_assistant.chatbot.service.ChatbotStreamBroker;
+import kr.easylab.learning_assistant.common.cache.SerializedResponseCache;
+import kr.easylab.learning_assistant.common.cache.StatisticsConcurrentMapCache;
+import kr.easylab.learning_assistant.common.tracing.InMemorySpanReporter;
+import kr.easylab.learning_assistant.exam.service.translation.TranslationPrefetchTracker;
+import kr.easylab.learning_assistant.exam.service.writebehind.ExamWriteBehindBuffer;
+import kr.easylab.learning_assistant.llm.dto.LLMCallSite;
+import kr.easylab.learning_assistant.llm.dto.LLMPriority;
+import kr.easylab.learning_assistant.llm.service.LLMConcurrencyLimiter;
+import kr.easylab.learning_assistant.llm.service.LLMMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 서비스가 느린 원인을 한눈에 볼 수 있도록 캐시, 선행 번역, LLM 호출, 채팅 스트림, 최근 느린 요청을 요약
+@Component
+@Endpoint(id = "performance")
+public class PerformanceEndpoint {
+    private final CacheManager cacheManager;
+    private final TranslationPrefetchTracker translationPrefetchTracker;
+    private final Executor applicationTaskExecutor;
+    private final LLMMetrics llmMetrics;
+    private final LLMConcurrencyLimiter llmConcurrencyLimiter;
+    private final ChatbotStreamBroker chatbotStreamBroker;
+    private final MeterRegistry meterRegistry;
+    private final SerializedResponseCache serializedResponseCache;
+    private final ExamWriteBehindBuffer examWriteBehindBuffer;
+    private final InMemorySpanReporter spanReporter;
+    private final int slowestRequests;
+
+    public PerformanceEndpoint(
+            CacheManager cacheManager,
+            TranslationPrefetchTracker translationPrefetchTracker,
+            @Qualifier("applicationTaskExecutor") Executor applicationTaskExecutor,
+            LLMMetrics llmMetrics,
+            LLMConcurrencyLimiter llmConcurrencyLimiter,
+            ChatbotStreamBroker chatbotStreamBroker,
+            MeterRegistry meterRegistry,
+            SerializedResponseCache serializedResponseCache,
+            ExamWriteBehindBuffer examWriteBehindBuffer,
+            InMemorySpanReporter spanReporter,
+            @Value("${performance.slowest_requests}") int slowestRequests) {
+        this.cacheManager = cacheManager;
+        this.translationPrefetchTracker = translationPrefetchTracker;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.llmMetrics = llmMetrics;
+        this.llmConcurrencyLimiter = llmConcurrencyLimiter;
+        this.chatbotStreamBroker = chatbotStreamBroker;
+        this.meterRegistry = meterRegistry;
+        this.serializedResponseCache = serializedResponseCache;
+        this.examWriteBehindBuffer = examWriteBehindBuffer;
+        this.spanReporter = spanReporter;
+        this.slowestRequests = slowestRequests;
+    }
+
+    @ReadOperation
+    public PerformanceReport report() {
+        return PerformanceReport.builder()
+                .translationCache(translationCache())
+                .prefetch(prefetch())
+                .asyncExecutor(asyncExecutor())
+                .llm(PerformanceReport.LLM.builder()
+                        .inFlightByProvider(llmMetrics.getActiveCallsByProvider())
+                        .inFlightByCallSite(inFlightByCallSite())
+                        .concurrencyLimit(llmConcurrencyLimiter.getLimit())
+                        .waitingByPriority(byPriority(llmConcurrencyLimiter::getWaiting))
+                        .rejectedByPriority(byPriority(priority -> (long) llmConcurrencyLimiter.getRejectedCount(priority)))
+                        .build())
+                .chat(PerformanceReport.Chat.builder()
+                        .activeStreams(chatbotStreamBroker.getActiveStreams())
+                        .averageContextMessages(mean("chat.context.messages"))
+                        .averageContextChars(mean("chat.context.chars"))
+                        .build())
+                .report(PerformanceReport.Report.builder()
+                        .generating(llmMetrics.getActiveCalls(LLMCallSite.REPORT))
+                        .build())
+                .responseCache(PerformanceReport.ResponseCache.builder()
+                        .size(serializedResponseCache.size())
+                        .hitRate(serializedResponseCache.stats().hitRate())
+                        .build())
+                .writeBehind(PerformanceReport.WriteBehind.builder()
+                        .enabled(examWriteBehindBuffer.isEnabled())
+                        .pending(examWriteBehindBuffer.getPendingCount())
+                        .build())
+                .slowestRequests(slowestRequests())
+                .build();
+    }
+
+    private PerformanceReport.TranslationCache translationCache() {
+        Cache cache = cacheManager.getCache("exam-translation");
+        if (!(cache instanceof StatisticsConcurrentMapCache statistics))
+            return null;
+
+        long hits = statistics.getHitCount();
+        long misses = statistics.getMissCount();
+        return PerformanceReport.TranslationCache.builder()
+                .size(statistics.size())
+                .hits(hits)
+                .misses(misses)
+                .hitRate(ratio(hits, hits + misses))
+                .build();
+    }
+
+    private PerformanceReport.Prefetch prefetch() {
+        long used = translationPrefetchTracker.getUsedCount();
+        long wasted = translationPrefetchTracker.getWastedCount();
+        return PerformanceReport.Prefetch.builder()
+                .queueDepth(translationPrefetchTracker.getQueueDepth())
+                .unused(translationPrefetchTracker.getUnusedCount())
+                .used(used)
+                .wasted(wasted)
+                .wastedRatio(ratio(wasted, used + wasted))
+                .build();
+    }
+
+    private PerformanceReport.AsyncExecutor asyncExecutor() {
+        if (!(applicationTaskExecutor instanceof ThreadPoolTaskExecutor executor))
+            return null;
+
+        return PerformanceReport.AsyncExecutor.builder()
+                .activeThreads(executor.getActiveCount())
+                .poolSize(executor.getPoolSize())
+                .maxPoolSize(executor.getMaxPoolSize())
+                .queueSize(executor.getQueueSize())
+                .build();
+    }
+
+    private Map<String, Integer> inFlightByCallSite() {
+        Map<String, Integer> inFlight = new LinkedHashMap<>();
+        for (LLMCallSite callSite : LLMCallSite.values())
+            inFlight.put(callSite.getTag(), llmMetrics.getActiveCalls(callSite));
+        return inFlight;
+    }
+
+    private <T> Map<String, T> byPriority(Function<LLMPriority, T> value) {
+        Map<String, T> values = new LinkedHashMap<>();
+        for (LLMPriority priority : LLMPriority.values())
+            values.put(priority.name().toLowerCase(), value.apply(priority));
+        return values;
+    }
+
+    private double mean(String name) {
+        DistributionSummary summary = meterRegistry.find(name).summary();
+        return summary == null ? 0 : summary.mean();
+    }
+
+    private List<PerformanceReport.SlowRequest> slowestRequests() {
+        return spanReporter.getSpans().stream()
+                .filter(span -> span.getKind() == Span.Kind.SERVER)
+                .sorted(Comparator.comparing(FinishedSpan::getDuration).reversed())
+                .limit(slowestRequests)
+                .map(span -> PerformanceReport.SlowRequest.builder()
+                        .name(span.getName())
+                        .uri(span.getTags().get("uri"))
+                        .status(span.getTags().get("status"))
+                        .traceId(span.getTraceId())
+                        .startedAt(span.getStartTimestamp())
+                        .durationMs(millis(span.getDuration()))
+                        .breakdown(breakdown(span))
+                        .build())
+                .toList();
+    }
+
+    private List<PerformanceReport.SpanBreakdown> breakdown(FinishedSpan request) {
+        Map<String, List<FinishedSpan>> byName = spanReporter.getTrace(request.getTraceId()).stream()
+                .filter(span -> !span.getSpanId().equals(request.getSpanId()))
+                .collect(Collectors.groupingBy(FinishedSpan::getName));
+
+        return byName.entrySet().stream()
+                .map(entry -> PerformanceReport.SpanBreakdown.builder()
+                        .name(entry.getKey())
+                        .count(entry.getValue().size())
+                        .totalMs(millis(entry.getValue().stream()
+                                .map(FinishedSpan::getDuration)
+                                .reduce(Duration.ZERO, Duration::plus)))
+                        .build())
+                .sorted(Comparator.comparingDouble(PerformanceReport.SpanBreakdown::getTotalMs).reversed())
+                .toList();
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000d;
+    }
+
+    private static double ratio(long part, long total) {
+        return total == 0 ? 0 : (double) part / total;
+    }
+}
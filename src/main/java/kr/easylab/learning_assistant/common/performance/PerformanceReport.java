@@ -0,0 +1,113 @@
+package kr.easylab.learning_assistant.common.performance;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@Builder
+@Getter
+public class PerformanceReport {
+    private TranslationCache translationCache;
+    private Prefetch prefetch;
+    private AsyncExecutor asyncExecutor;
+    private LLM llm;
+    private Chat chat;
+    private Report report;
+    private ResponseCache responseCache;
+    private WriteBehind writeBehind;
+    private List<SlowRequest> slowestRequests;
+
+    @Builder
+    @Getter
+    public static class TranslationCache {
+        private long size;
+        private long hits;
+        private long misses;
+        private double hitRate;
+    }
+
+    @Builder
+    @Getter
+    public static class Prefetch {
+        // 실행을 기다리는 선행 번역 수
+        private int queueDepth;
+        // 번역은 끝났지만 아직 요청되지 않은 수
+        private long unused;
+        private long used;
+        private long wasted;
+        private double wastedRatio;
+    }
+
+    @Builder
+    @Getter
+    public static class AsyncExecutor {
+        private int activeThreads;
+        private int poolSize;
+        private int maxPoolSize;
+        private int queueSize;
+    }
+
+    @Builder
+    @Getter
+    public static class LLM {
+        private Map<String, Integer> inFlightByProvider;
+        private Map<String, Integer> inFlightByCallSite;
+        // 동시 호출 한도(AIMD)와 우선순위별 대기, 거절 수
+        private double concurrencyLimit;
+        private Map<String, Integer> waitingByPriority;
+        private Map<String, Long> rejectedByPriority;
+    }
+
+    @Builder
+    @Getter
+    public static class Chat {
+        private int activeStreams;
+        private double averageContextMessages;
+        private double averageContextChars;
+    }
+
+    @Builder
+    @Getter
+    public static class Report {
+        // 보고서는 요청 스레드에서 생성되므로 생성 중인 수가 대기열 길이에 해당
+        private int generating;
+    }
+
+    @Builder
+    @Getter
+    public static class ResponseCache {
+        private long size;
+        private double hitRate;
+    }
+
+    @Builder
+    @Getter
+    public static class WriteBehind {
+        private boolean enabled;
+        private int pending;
+    }
+
+    @Builder
+    @Getter
+    public static class SlowRequest {
+        private String name;
+        private String uri;
+        private String status;
+        private String traceId;
+        private Instant startedAt;
+        private double durationMs;
+        // 같은 trace 의 하위 span 을 이름별로 합산
+        private List<SpanBreakdown> breakdown;
+    }
+
+    @Builder
+    @Getter
+    public static class SpanBreakdown {
+        private String name;
+        private long count;
+        private double totalMs;
+    }
+}
@@ -0,0 +1,76 @@
+package kr.easylab.learning_assistant.common.tracing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.tracing.exporter.FinishedSpan;
+import io.micrometer.tracing.exporter.SpanReporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+// 종료된 span 을 JSON Lines 형식으로 로컬 파일에 기록 (수집기 없이 추적을 확인할 때 사용)
+@Slf4j
+public class FileSpanReporter implements SpanReporter {
+    private record SpanRecord(
+            String traceId,
+            String spanId,
+            String parentId,
+            String name,
+            String kind,
+            Instant start,
+            long durationMicros,
+            Map<String, String> tags,
+            String error) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final BufferedWriter writer;
+
+    public FileSpanReporter(ObjectMapper objectMapper, Path file) throws IOException {
+        this.objectMapper = objectMapper;
+        if (file.toAbsolutePath().getParent() != null)
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public void report(FinishedSpan span) {
+        SpanRecord record = new SpanRecord(
+                span.getTraceId(),
+                span.getSpanId(),
+                span.getParentId(),
+                span.getName(),
+                span.getKind() == null ? null : span.getKind().name(),
+                span.getStartTimestamp(),
+                Duration.between(span.getStartTimestamp(), span.getEndTimestamp()).toNanos() / 1000,
+                span.getTags(),
+                span.getError() == null ? null : span.getError().toString());
+        try {
+            String line = objectMapper.writeValueAsString(record);
+            synchronized (writer) {
+                writer.write(line);
+                writer.newLine();
+                writer.flush();
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize span {}: {}", span.getName(), e.getMessage());
+        } catch (IOException e) {
+            log.warn("Failed to write span {}: {}", span.getName(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (writer) {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package kr.easylab.learning_assistant.common.tracing;
+
+import io.micrometer.tracing.exporter.FinishedSpan;
+import io.micrometer.tracing.exporter.SpanReporter;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 최근에 종료된 span 을 메모리에 보관 (테스트 및 운영 중 느린 요청 분석용)
+public class InMemorySpanReporter implements SpanReporter {
+    private final int capacity;
+    private final ConcurrentLinkedDeque<FinishedSpan> spans = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public InMemorySpanReporter(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void report(FinishedSpan span) {
+        spans.addLast(span);
+        if (size.incrementAndGet() > capacity && spans.pollFirst() != null)
+            size.decrementAndGet();
+    }
+
+    public List<FinishedSpan> getSpans() {
+        return List.copyOf(spans);
+    }
+
+    public List<FinishedSpan> getTrace(String traceId) {
+        return spans.stream()
+                .filter(span -> span.getTraceId().equals(traceId))
+                .toList();
+    }
+
+    public void clear() {
+        spans.clear();
+        size.set(0);
+    }
+}
@@ -2,9 +2,13 @@ package kr.easylab.learning_assistant.exam.controller;
 
 import jakarta.validation.Valid;
 import kr.easylab.learning_assistant.admin.dto.OkResponse;
+import kr.easylab.learning_assistant.chatbot.dto.ChatbotMessagePageResponse;
+import kr.easylab.learning_assistant.chatbot.dto.ChatbotStreamChunk;
 import kr.easylab.learning_assistant.chatbot.service.ChatbotService;
+import kr.easylab.learning_assistant.common.cache.SerializedResponseCache;
 import kr.easylab.learning_assistant.common.dto.ListResponse;
 import kr.easylab.learning_assistant.exam.dto.*;
+import kr.easylab.learning_assistant.exam.exception.InvalidChatStreamCursor;
 import kr.easylab.learning_assistant.exam.service.ExamChatbotService;
 import kr.easylab.learning_assistant.exam.service.ExamReportService;
 import kr.easylab.learning_assistant.exam.service.ExamService;
@@ -14,27 +18,41 @@ import kr.easylab.learning_assistant.question.dto.QuestionBankResponse;
 import kr.easylab.learning_assistant.question.dto.QuestionCreationRequest;
 import kr.easylab.learning_assistant.question.service.QuestionBankService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.context.request.WebRequest;
 import reactor.core.publisher.Flux;
 
-import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/1/exams")
 @RequiredArgsConstructor
 public class ExamController {
+    private static final long MAX_CHAT_HISTORY_PAGE_SIZE = 100L;
+    private static final long MAX_QUESTION_WINDOW_SIZE = 200L;
+
     private final ExamService examService;
     private final ExamChatbotService examChatbotService;
     private final ExamReportService examReportService;
+    private final SerializedResponseCache serializedResponseCache;
+
+    @Value("${chat.stream.coalesce_max_chunks}")
+    private int coalesceMaxChunks;
+
+    @Value("${chat.stream.coalesce_interval}")
+    private Duration coalesceInterval;
+
+    @Value("${chat.stream.heartbeat_interval}")
+    private Duration heartbeatInterval;
 
     @PostMapping()
     public ExamCreationResponse post(@RequestBody @Valid ExamCreationRequest request) {
@@ -49,9 +67,37 @@ public class ExamController {
         );
     }
 
+    // 시험 전체(또는 from 부터 size 개)를 한 번에 내려받음. 번역이 끝나는 대로 문제 순서대로 NDJSON 또는 SSE 로 전송
+    // 창 전체의 번역은 spring.mvc.async.request-timeout 을 넘길 수 있으나, 스트림 응답(NDJSON, SSE)에는 Spring 이 시간 제한을 두지 않음
+    @GetMapping(value = "/{exam_id}/questions", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<ExamQuestionResponse> getQuestions(@PathVariable Long exam_id,
+                                                   @RequestParam(defaultValue = "0") Long from,
+                                                   @RequestParam(defaultValue = "" + MAX_QUESTION_WINDOW_SIZE) Long size) {
+        return examService.streamQuestions(exam_id, Math.max(from, 0L), Math.clamp(size, 1L, MAX_QUESTION_WINDOW_SIZE));
+    }
+
+    // 상태 버전이 같으면 문제를 다시 조립하지 않고 304 로 응답하며, 직렬화된 응답은 버전별로 재사용
     @GetMapping("/{exam_id}/questions/{no}")
-    public ExamQuestionResponse getQuestion(@PathVariable Long exam_id, @PathVariable Long no) {
-        return examService.getQuestion(exam_id, no);
+    public ResponseEntity<byte[]> getQuestion(@PathVariable Long exam_id, @PathVariable Long no, WebRequest webRequest) {
+        String etag = questionETag(exam_id, no, examService.getQuestionStateVersion(exam_id, no));
+        return serializedResponseCache.respond(webRequest, "exam-question", etag, CacheControl.noCache(),
+                () -> examService.getQuestion(exam_id, no));
+    }
+
+    // 제목, 보기, 번역은 (exam_id, no) 에 대해 바뀌지 않으므로 브라우저와 CDN 이 재검증 없이 재사용할 수 있음
+    @GetMapping("/{exam_id}/questions/{no}/content")
+    public ResponseEntity<byte[]> getQuestionContent(@PathVariable Long exam_id, @PathVariable Long no, WebRequest webRequest) {
+        String etag = "\"" + exam_id + "-" + no + "-content\"";
+        return serializedResponseCache.respond(webRequest, "exam-question-content", etag,
+                CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable(),
+                () -> examService.getQuestionContent(exam_id, no));
+    }
+
+    @GetMapping("/{exam_id}/questions/{no}/state")
+    public ResponseEntity<byte[]> getQuestionState(@PathVariable Long exam_id, @PathVariable Long no, WebRequest webRequest) {
+        String etag = questionETag(exam_id, no, examService.getQuestionStateVersion(exam_id, no));
+        return serializedResponseCache.respond(webRequest, "exam-question-state", etag, CacheControl.noCache(),
+                () -> examService.getQuestionState(exam_id, no));
     }
 
     @PostMapping("/{exam_id}/questions/{no}/answer")
@@ -71,9 +117,12 @@ public class ExamController {
         return new ResponseEntity<>(new OkResponse(), HttpStatus.NO_CONTENT);
     }
 
+    // 결과 보고서는 LLM 으로 생성하므로, 문제 상태가 바뀌지 않았다면 이전에 만든 응답을 재사용
     @GetMapping("/{exam_id}/result")
-    public ExamResultResponse getQuestion(@PathVariable Long exam_id) {
-        return examReportService.getResult(exam_id);
+    public ResponseEntity<byte[]> getQuestion(@PathVariable Long exam_id, WebRequest webRequest) {
+        String etag = "\"" + exam_id + "-result-" + examReportService.getResultVersion(exam_id) + "\"";
+        return serializedResponseCache.respond(webRequest, "exam-result", etag, CacheControl.noCache(),
+                () -> examReportService.getResult(exam_id));
     }
 
     @PostMapping("/{exam_id}/questions/{no}/chat")
@@ -81,35 +130,67 @@ public class ExamController {
         return examChatbotService.chat(exam_id, no, request);
     }
 
+    @GetMapping("/{exam_id}/questions/{no}/chat/messages")
+    public ChatbotMessagePageResponse getChatHistory(@PathVariable Long exam_id, @PathVariable Long no,
+                                                     @RequestParam(required = false) Long before_id,
+                                                     @RequestParam(defaultValue = "20") Long limit) {
+        return examChatbotService.getChatHistory(exam_id, no, before_id, Math.clamp(limit, 1L, MAX_CHAT_HISTORY_PAGE_SIZE));
+    }
+
     @GetMapping("/{exam_id}/questions/{no}/chat/preset")
     public ExamChatbotPresetResponse getPresetChat(@PathVariable Long exam_id, @PathVariable Long no) {
         return examChatbotService.generatePresetMessages(exam_id, no);
     }
-    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
     @PostMapping(value = "/{exam_id}/questions/{no}/chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter streamLlmResponse(@PathVariable Long exam_id, @PathVariable Long no, @RequestBody @Valid ExamChatRequest request) {
-        SseEmitter emitter = new SseEmitter(240_000L);
-        Flux<String> flux = examChatbotService.chatStream(exam_id, no, request);
-        flux
-                .doOnError(emitter::completeWithError)
-                .doOnComplete(emitter::complete)
-                .subscribe(str -> {
-                        try {
-                            emitter.send(SseEmitter.event().data(new ExamChatResponse(str)).build());
-                        } catch (IOException e) {
-                            emitter.completeWithError(e);
-                            throw new RuntimeException(e);
-                        }
-                });
-
-        emitter.onTimeout(() -> {
-            System.out.println("SSE Emitter timed out");
-            emitter.complete();
-        });
-
-        emitter.onCompletion(() -> System.out.println("SSE Emitter completed"));
-        emitter.onError(e -> System.err.println("SSE Emitter error: " + e.getMessage()));
-
-        return emitter;
+    public Flux<ServerSentEvent<ExamChatResponse>> streamLlmResponse(@PathVariable Long exam_id, @PathVariable Long no, @RequestBody @Valid ExamChatRequest request) {
+        return toServerSentEvents(examChatbotService.chatStream(exam_id, no, request));
+    }
+
+    // 진행 중인 답변에 합류하거나, 끊긴 스트림을 마지막으로 받은 이벤트 ID(`{message_id}:{offset}`)부터 이어받는다.
+    @GetMapping(value = "/{exam_id}/questions/{no}/chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ExamChatResponse>> resumeLlmResponse(@PathVariable Long exam_id, @PathVariable Long no, @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        if (lastEventId == null)
+            return toServerSentEvents(examChatbotService.resumeChatStream(exam_id, no, null, 0L));
+
+        String[] cursor = lastEventId.split(":");
+        if (cursor.length != 2)
+            throw new InvalidChatStreamCursor();
+
+        try {
+            Long messageId = Long.parseLong(cursor[0]);
+            Long offset = Long.parseLong(cursor[1]);
+            // 저장된 메시지를 int 위치로 자르므로 그 범위를 벗어나는 offset 은 잘못된 커서
+            if (offset < 0 || offset > Integer.MAX_VALUE)
+                throw new InvalidChatStreamCursor();
+            return toServerSentEvents(examChatbotService.resumeChatStream(exam_id, no, messageId, offset));
+        } catch (NumberFormatException e) {
+            throw new InvalidChatStreamCursor();
+        }
+    }
+
+    private String questionETag(Long examId, Long no, String version) {
+        return "\"" + examId + "-" + no + "-" + version + "\"";
+    }
+
+    private Flux<ServerSentEvent<ExamChatResponse>> toServerSentEvents(Flux<ChatbotStreamChunk> stream) {
+        Flux<ChatbotStreamChunk> chunks = stream
+                // 토큰 단위의 작은 청크를 시간/개수 기준으로 묶어서 하나의 프레임으로 전송
+                .bufferTimeout(coalesceMaxChunks, coalesceInterval)
+                .map(buffer -> new ChatbotStreamChunk(
+                        buffer.getLast().getMessageId(),
+                        buffer.getLast().getOffset(),
+                        buffer.stream().map(ChatbotStreamChunk::getText).collect(Collectors.joining())
+                ));
+
+        // 클라이언트 연결이 끊기면 구독이 취소되고, 취소는 LLM WebClient 요청까지 전파된다.
+        return chunks.publish(shared -> Flux.merge(
+                shared.map(chunk -> ServerSentEvent.builder(new ExamChatResponse(chunk.getText()))
+                        .id(chunk.getMessageId() + ":" + chunk.getOffset())
+                        .build()),
+                Flux.interval(heartbeatInterval)
+                        .map(tick -> ServerSentEvent.<ExamChatResponse>builder().comment("heartbeat").build())
+                        .takeUntilOther(shared.then())
+        ));
     }
 }
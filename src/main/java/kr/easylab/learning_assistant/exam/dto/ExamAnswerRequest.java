@@ -1,5 +1,6 @@
 package kr.easylab.learning_assistant.exam.dto;
 
+import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,5 +9,9 @@ import java.util.List;
 @Builder
 @Getter
 public class ExamAnswerRequest {
+    @NotNull
     private List<String> userAnswers;
+
+    // 마지막으로 받은 문제 상태 버전. 지정하면 그 사이 다른 답이 제출된 경우 409 로 거절
+    private Long version;
 }
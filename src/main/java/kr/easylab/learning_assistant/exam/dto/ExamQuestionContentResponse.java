@@ -0,0 +1,16 @@
+package kr.easylab.learning_assistant.exam.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 시험이 생성된 뒤에는 바뀌지 않는 문제 내용
+@Builder
+@Getter
+public class ExamQuestionContentResponse {
+    private Long questionId;
+    private String title;
+    private Long answerCount;
+    private List<Option> options;
+}
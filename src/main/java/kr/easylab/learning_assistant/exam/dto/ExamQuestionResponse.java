@@ -15,6 +15,7 @@ public class ExamQuestionResponse {
     private Long answerCount;
     private List<Option> options;
     private Boolean marker;
+    private Long version;
 
     @Setter
     private List<String> userAnswers;
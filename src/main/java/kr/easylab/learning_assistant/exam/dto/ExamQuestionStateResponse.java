@@ -0,0 +1,18 @@
+package kr.easylab.learning_assistant.exam.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 사용자 조작에 따라 바뀌는 문제 상태. 답을 제출한 뒤에만 정답과 해설이 포함됨
+@Builder
+@Getter
+public class ExamQuestionStateResponse {
+    private Long questionId;
+    private Long version;
+    private Boolean marker;
+    private List<String> userAnswers;
+    private List<String> actualAnswers;
+    private String explanation;
+}
@@ -28,7 +28,7 @@ public class Exam {
     @Column(nullable = false)
     private Long randomSeed;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "question_bank_id", nullable = false)
     private QuestionBank questionBank;
 
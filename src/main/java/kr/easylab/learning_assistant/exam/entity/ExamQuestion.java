@@ -4,11 +4,13 @@ import jakarta.persistence.*;
 import kr.easylab.learning_assistant.chatbot.entity.Chatbot;
 import kr.easylab.learning_assistant.question.entity.Question;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Builder
+@Builder(toBuilder = true)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
@@ -35,24 +37,49 @@ public class ExamQuestion {
     private Question question;
 
     @Column(nullable = false)
-    @Setter
     private Boolean marked;
 
     @Column(nullable = true)
-    @Setter
     private Boolean correct;
 
-    @ElementCollection
-    @CollectionTable(
-            name = "exam_question_user_answers",
-            joinColumns = @JoinColumn(name = "exam_question_id")
-    )
-    @Column(name = "answer", nullable = false)
-    @Setter
-    private List<String> userAnswers;
+    // 선택한 보기를 비트로 저장 (A = 1, B = 2, C = 4 ...). 답을 제출하지 않았다면 null
+    @Column(nullable = true)
+    private Integer answerMask;
+
+    // marked, userAnswers 등 사용자 상태가 바뀔 때마다 증가. ETag 로 사용
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
 
     @JoinColumn(nullable = true)
     @OneToOne(cascade = CascadeType.ALL)
     @Setter
     private Chatbot chatbot;
+
+    // 쓰기 지연 버퍼의 변경을 화면에 보여주기 위한 용도. 영속성 컨텍스트에서 분리된 엔티티에만 사용
+    public void overlay(Boolean marked, Integer answerMask, Boolean correct) {
+        if (marked != null)
+            this.marked = marked;
+        if (answerMask != null) {
+            this.answerMask = answerMask;
+            this.correct = correct;
+        }
+    }
+
+    public List<String> getUserAnswers() {
+        return fromAnswerMask(answerMask);
+    }
+
+    public static List<String> fromAnswerMask(Integer answerMask) {
+        List<String> keys = new ArrayList<>();
+        if (answerMask == null)
+            return keys;
+
+        for (int index = 0; index < Integer.SIZE - 1; index++) {
+            if ((answerMask & (1 << index)) != 0)
+                keys.add(String.valueOf((char) ('A' + index)));
+        }
+        return keys;
+    }
 }
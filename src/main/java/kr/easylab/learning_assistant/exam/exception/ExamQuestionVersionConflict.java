@@ -0,0 +1,12 @@
+package kr.easylab.learning_assistant.exam.exception;
+
+import kr.easylab.learning_assistant.common.annotation.HTTPResponseAnnotation;
+import kr.easylab.learning_assistant.common.exception.KnownException;
+import org.springframework.http.HttpStatus;
+
+@HTTPResponseAnnotation(status = HttpStatus.CONFLICT, errorCode = "EXAM_QUESTION_VERSION_CONFLICT")
+public class ExamQuestionVersionConflict extends KnownException {
+    public ExamQuestionVersionConflict() {
+        super("다른 요청에서 문제 상태가 먼저 변경되었습니다.");
+    }
+}
@@ -0,0 +1,12 @@
+package kr.easylab.learning_assistant.exam.exception;
+
+import kr.easylab.learning_assistant.common.annotation.HTTPResponseAnnotation;
+import kr.easylab.learning_assistant.common.exception.KnownException;
+import org.springframework.http.HttpStatus;
+
+@HTTPResponseAnnotation(status = HttpStatus.BAD_REQUEST, errorCode = "INVALID_CHAT_STREAM_CURSOR")
+public class InvalidChatStreamCursor extends KnownException {
+    public InvalidChatStreamCursor() {
+        super("스트림 재개 위치(Last-Event-ID)가 올바르지 않습니다.");
+    }
+}
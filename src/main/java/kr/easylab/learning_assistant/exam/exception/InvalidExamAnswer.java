@@ -0,0 +1,12 @@
+package kr.easylab.learning_assistant.exam.exception;
+
+import kr.easylab.learning_assistant.common.annotation.HTTPResponseAnnotation;
+import kr.easylab.learning_assistant.common.exception.KnownException;
+import org.springframework.http.HttpStatus;
+
+@HTTPResponseAnnotation(status = HttpStatus.BAD_REQUEST, errorCode = "INVALID_EXAM_ANSWER")
+public class InvalidExamAnswer extends KnownException {
+    public InvalidExamAnswer() {
+        super("존재하지 않는 보기를 선택했습니다.");
+    }
+}
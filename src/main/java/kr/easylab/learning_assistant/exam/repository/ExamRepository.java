@@ -2,12 +2,18 @@ package kr.easylab.learning_assistant.exam.repository;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
+import jakarta.persistence.Query;
 import kr.easylab.learning_assistant.exam.entity.Exam;
 import kr.easylab.learning_assistant.exam.entity.ExamQuestion;
+import kr.easylab.learning_assistant.exam.service.writebehind.ExamInteractionEvent;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.util.List;
+
 @Repository
 @RequiredArgsConstructor
 public class ExamRepository {
@@ -27,10 +33,19 @@ public class ExamRepository {
         return em.find(Exam.class, examId);
     }
 
-    @Transactional(readOnly = true)
+    // 아래 조회는 시험을 만들거나 답을 제출한 직후 트랜잭션 밖(번역 선행 호출 등)에서도 불리므로, 복제 지연으로 놓치지 않도록 주 DB 에서 읽음
+    @Transactional
     public ExamQuestion findQuestion(Long examId, Long no) {
         try {
-            return em.createQuery("SELECT q FROM ExamQuestion q WHERE q.exam.id = :examId AND q.no = :no", ExamQuestion.class)
+            // mapToDto 에 필요한 연관 엔티티를 한 번에 조회하여 지연 로딩으로 인한 추가 쿼리를 방지
+            return em.createQuery("""
+                            SELECT q FROM ExamQuestion q
+                            JOIN FETCH q.exam e
+                            JOIN FETCH q.question qq
+                            LEFT JOIN FETCH qq.answer
+                            LEFT JOIN FETCH q.chatbot
+                            WHERE e.id = :examId AND q.no = :no
+                            """, ExamQuestion.class)
                     .setParameter("examId", examId)
                     .setParameter("no", no)
                     .getSingleResult();
@@ -38,4 +53,108 @@ public class ExamRepository {
             return null;
         }
     }
+
+    // findQuestion 과 같은 연관 엔티티를 가져오되, no 가 [from, to) 인 문제를 한 번에 조회
+    @Transactional
+    public List<ExamQuestion> findQuestions(Long examId, Long from, Long to) {
+        return em.createQuery("""
+                        SELECT DISTINCT q FROM ExamQuestion q
+                        JOIN FETCH q.exam e
+                        JOIN FETCH q.question qq
+                        LEFT JOIN FETCH qq.answer
+                        LEFT JOIN FETCH q.chatbot
+                        WHERE e.id = :examId AND q.no >= :from AND q.no < :to
+                        ORDER BY q.no
+                        """, ExamQuestion.class)
+                .setParameter("examId", examId)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getResultList();
+    }
+
+    // 조건부 요청 처리를 위해 문제 전체를 읽지 않고 버전만 조회
+    @Transactional
+    public Long findQuestionVersion(Long examId, Long no) {
+        return em.createQuery("SELECT q.version FROM ExamQuestion q WHERE q.exam.id = :examId AND q.no = :no", Long.class)
+                .setParameter("examId", examId)
+                .setParameter("no", no)
+                .getResultStream()
+                .findFirst()
+                .orElse(null);
+    }
+
+    // 문제 버전은 증가만 하므로 합계가 같으면 시험의 모든 문제 상태가 같음
+    @Transactional
+    public Long sumQuestionVersions(Long examId) {
+        return em.createQuery("SELECT COALESCE(SUM(q.version), 0) FROM ExamQuestion q WHERE q.exam.id = :examId", Long.class)
+                .setParameter("examId", examId)
+                .getSingleResult();
+    }
+
+    public void detach(ExamQuestion examQuestion) {
+        em.detach(examQuestion);
+    }
+
+    // 같은 답을 다시 제출하면 아무 행도 바뀌지 않으므로 재시도해도 안전함
+    public int updateAnswer(Long examQuestionId, Integer answerMask, Boolean correct, Long expectedVersion) {
+        String query = """
+                UPDATE ExamQuestion q
+                SET q.answerMask = :answerMask, q.correct = :correct, q.version = q.version + 1
+                WHERE q.id = :examQuestionId AND (q.answerMask IS NULL OR q.answerMask <> :answerMask)
+                """ + (expectedVersion == null ? "" : " AND q.version = :expectedVersion");
+
+        Query update = em.createQuery(query)
+                .setParameter("answerMask", answerMask)
+                .setParameter("correct", correct)
+                .setParameter("examQuestionId", examQuestionId);
+        if (expectedVersion != null)
+            update.setParameter("expectedVersion", expectedVersion);
+        return update.executeUpdate();
+    }
+
+    public int updateMarked(Long examId, Long no, Boolean marked) {
+        return em.createQuery("""
+                        UPDATE ExamQuestion q
+                        SET q.marked = :marked, q.version = q.version + 1
+                        WHERE q.exam.id = :examId AND q.no = :no AND q.marked <> :marked
+                        """)
+                .setParameter("marked", marked)
+                .setParameter("examId", examId)
+                .setParameter("no", no)
+                .executeUpdate();
+    }
+
+    public Integer findAnswerMask(Long examQuestionId) {
+        return em.createQuery("SELECT q.answerMask FROM ExamQuestion q WHERE q.id = :examQuestionId", Integer.class)
+                .setParameter("examQuestionId", examQuestionId)
+                .getSingleResult();
+    }
+
+    // 쓰기 지연 버퍼에 모인 변경을 JDBC 배치로 반영. 조건은 updateMarked, updateAnswer 와 같음
+    public void applyInteractions(List<ExamInteractionEvent> events) {
+        em.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement mark = connection.prepareStatement(
+                         "UPDATE exam_question SET marked = ?, version = version + 1 WHERE exam_id = ? AND no = ? AND marked <> ?");
+                 PreparedStatement answer = connection.prepareStatement(
+                         "UPDATE exam_question SET answer_mask = ?, correct = ?, version = version + 1 WHERE id = ? AND (answer_mask IS NULL OR answer_mask <> ?)")) {
+                for (ExamInteractionEvent event : events) {
+                    if (event.getType() == ExamInteractionEvent.Type.MARK) {
+                        mark.setBoolean(1, event.getMarked());
+                        mark.setLong(2, event.getExamId());
+                        mark.setLong(3, event.getNo());
+                        mark.setBoolean(4, event.getMarked());
+                        mark.addBatch();
+                    } else {
+                        answer.setInt(1, event.getAnswerMask());
+                        answer.setBoolean(2, event.getCorrect());
+                        answer.setLong(3, event.getExamQuestionId());
+                        answer.setInt(4, event.getAnswerMask());
+                        answer.addBatch();
+                    }
+                }
+                mark.executeBatch();
+                answer.executeBatch();
+            }
+        });
+    }
 }
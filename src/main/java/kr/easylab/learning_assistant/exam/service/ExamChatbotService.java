@@ -1,5 +1,7 @@
 package kr.easylab.learning_assistant.exam.service;
 
+import kr.easylab.learning_assistant.chatbot.dto.ChatbotMessagePageResponse;
+import kr.easylab.learning_assistant.chatbot.dto.ChatbotStreamChunk;
 import kr.easylab.learning_assistant.exam.dto.ExamChatRequest;
 import kr.easylab.learning_assistant.exam.dto.ExamChatResponse;
 import kr.easylab.learning_assistant.exam.dto.ExamChatbotPresetResponse;
@@ -9,6 +11,8 @@ import java.util.List;
 
 public interface ExamChatbotService {
     ExamChatResponse chat(Long examId, Long no, ExamChatRequest request);
-    Flux<String> chatStream(Long examId, Long no, ExamChatRequest request);
+    Flux<ChatbotStreamChunk> chatStream(Long examId, Long no, ExamChatRequest request);
+    Flux<ChatbotStreamChunk> resumeChatStream(Long examId, Long no, Long chatbotMessageId, Long offset);
     ExamChatbotPresetResponse generatePresetMessages(Long examId, Long no);
+    ChatbotMessagePageResponse getChatHistory(Long examId, Long no, Long beforeId, Long limit);
 }
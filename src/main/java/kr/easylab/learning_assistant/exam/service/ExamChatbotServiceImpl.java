@@ -1,12 +1,19 @@
 package kr.easylab.learning_assistant.exam.service;
 
+import kr.easylab.learning_assistant.chatbot.dto.ChatbotMessagePageResponse;
+import kr.easylab.learning_assistant.chatbot.dto.ChatbotStreamChunk;
 import kr.easylab.learning_assistant.chatbot.entity.Chatbot;
+import kr.easylab.learning_assistant.chatbot.exception.NotFoundChatbot;
 import kr.easylab.learning_assistant.chatbot.service.ChatbotService;
 import kr.easylab.learning_assistant.exam.dto.*;
 import kr.easylab.learning_assistant.exam.entity.Exam;
 import kr.easylab.learning_assistant.exam.entity.ExamQuestion;
 import kr.easylab.learning_assistant.exam.exception.NotFoundExamQuestion;
 import kr.easylab.learning_assistant.exam.repository.ExamRepository;
+import kr.easylab.learning_assistant.exam.service.writebehind.ExamInteractionEvent;
+import kr.easylab.learning_assistant.exam.service.writebehind.ExamWriteBehindBuffer;
+import kr.easylab.learning_assistant.exam.service.writebehind.PendingExamQuestionState;
+import kr.easylab.learning_assistant.llm.dto.LLMCallSite;
 import kr.easylab.learning_assistant.llm.dto.LLMConfig;
 import kr.easylab.learning_assistant.llm.dto.LLMMessage;
 import kr.easylab.learning_assistant.llm.service.LLMService;
@@ -16,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +32,7 @@ public class ExamChatbotServiceImpl implements ExamChatbotService {
     private final ChatbotService chatbotService;
     private final ExamRepository examRepository;
     private final LLMService llmService;
+    private final ExamWriteBehindBuffer examWriteBehindBuffer;
 
     private static final String CHATBOT_PROMPT = """
         사용자가 문제를 잘 학습할 수 있도록 돕는 AI 챗봇 입니다.
@@ -39,6 +48,24 @@ public class ExamChatbotServiceImpl implements ExamChatbotService {
         return examQuestion;
     }
 
+    // 프롬프트에 들어갈 답 제출 상태는 DB 상태 위에 쓰기 지연 중인 변경을 덮어쓴 사본으로 만듦
+    // 챗봇 연결은 원본 엔티티에 저장되어야 하므로 원본은 분리하거나 수정하지 않음
+    private String describe(ExamQuestion examQuestion) {
+        Optional<PendingExamQuestionState> pending = examWriteBehindBuffer.getPending(examQuestion.getExam().getId(), examQuestion.getNo());
+        if (pending.isEmpty())
+            return examQuestionMapper.mapToString(examQuestion);
+
+        ExamQuestion copy = examQuestion.toBuilder().build();
+        ExamInteractionEvent mark = pending.get().getMark();
+        ExamInteractionEvent answer = pending.get().getAnswer();
+        copy.overlay(
+                mark == null ? null : mark.getMarked(),
+                answer == null ? null : answer.getAnswerMask(),
+                answer == null ? null : answer.getCorrect()
+        );
+        return examQuestionMapper.mapToString(copy);
+    }
+
     private Chatbot getOrCreateChatbot(ExamQuestion examQuestion) {
         Chatbot chatbot = examQuestion.getChatbot();
         if (chatbot == null) {
@@ -56,31 +83,48 @@ public class ExamChatbotServiceImpl implements ExamChatbotService {
         Chatbot chatbot = getOrCreateChatbot(examQuestion);
         chatbotService.addUserMessage(chatbot.getId(), request.getUser());
 
-        String prompt = CHATBOT_PROMPT + examQuestionMapper.mapToString(examQuestion);
+        String prompt = CHATBOT_PROMPT + describe(examQuestion);
 
         String message = chatbotService.generateMessage(chatbot.getId(), prompt);
 
         return new ExamChatResponse(message);
     }
 
+    @Override
     @Transactional
-    public Flux<String> chatStream(Long examId, Long no, ExamChatRequest request) {
+    public Flux<ChatbotStreamChunk> chatStream(Long examId, Long no, ExamChatRequest request) {
         ExamQuestion examQuestion =  findExamQuestionOrThrow(examId, no);
         Chatbot chatbot = getOrCreateChatbot(examQuestion);
-        chatbotService.addUserMessage(chatbot.getId(), request.getUser());
 
-        String prompt = CHATBOT_PROMPT + examQuestionMapper.mapToString(examQuestion);
-        return chatbotService.generateMessageStream(chatbot.getId(), prompt);
+        String prompt = CHATBOT_PROMPT + describe(examQuestion);
+        return chatbotService.sendMessageStream(chatbot.getId(), request.getUser(), prompt);
+    }
+
+    // 아래 조회는 방금 보낸 채팅과 제출한 답을 읽어야 하므로 복제본으로 가는 읽기 전용 트랜잭션을 쓰지 않음
+    @Override
+    @Transactional
+    public Flux<ChatbotStreamChunk> resumeChatStream(Long examId, Long no, Long chatbotMessageId, Long offset) {
+        ExamQuestion examQuestion = findExamQuestionOrThrow(examId, no);
+        if (examQuestion.getChatbot() == null)
+            throw new NotFoundChatbot();
+
+        return chatbotService.attachMessageStream(examQuestion.getChatbot().getId(), chatbotMessageId, offset);
     }
 
+    @Override
+    @Transactional
+    public ChatbotMessagePageResponse getChatHistory(Long examId, Long no, Long beforeId, Long limit) {
+        ExamQuestion examQuestion = findExamQuestionOrThrow(examId, no);
+        if (examQuestion.getChatbot() == null)
+            return ChatbotMessagePageResponse.builder().messages(List.of()).build();
+
+        return chatbotService.getChatbotMessagePage(examQuestion.getChatbot().getId(), beforeId, limit);
+    }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public ExamChatbotPresetResponse generatePresetMessages(Long examId, Long no) {
-        ExamQuestion examQuestion = examRepository.findQuestion(examId, no);
-        if (examQuestion == null) {
-            throw new NotFoundExamQuestion();
-        }
+        ExamQuestion examQuestion = findExamQuestionOrThrow(examId, no);
 
         String prompt = """
         학습 문제에 대해 사용자가 할만한 질문들을 생성해야합니다. (최소 5개, 최대 7개)
@@ -104,11 +148,12 @@ public class ExamChatbotServiceImpl implements ExamChatbotService {
         출력 언어:""" + examQuestion.getExam().getLanguage();
         return llmService.generate(
                 List.of(
-                        LLMMessage.builder().role(LLMMessage.Role.USER).text(examQuestionMapper.mapToString(examQuestion)).build()
+                        LLMMessage.builder().role(LLMMessage.Role.USER).text(describe(examQuestion)).build()
                 ), ExamChatbotPresetResponse.class,
                 LLMConfig.builder()
                         .prompt(prompt)
                         .thinking(LLMConfig.ThinkingMode.no)
+                        .callSite(LLMCallSite.PRESET)
                         .build());
     }
 }
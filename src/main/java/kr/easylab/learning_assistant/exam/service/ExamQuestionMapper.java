@@ -1,13 +1,14 @@
 package kr.easylab.learning_assistant.exam.service;
 
 import kr.easylab.learning_assistant.exam.dto.ExamQuestionResponse;
+import kr.easylab.learning_assistant.exam.dto.ExamQuestionStateResponse;
 import kr.easylab.learning_assistant.exam.dto.ExamTranslationResponse;
 import kr.easylab.learning_assistant.exam.dto.Option;
 import kr.easylab.learning_assistant.exam.entity.ExamQuestion;
 import kr.easylab.learning_assistant.exam.service.translation.ExamTranslationPredictiveService;
 import kr.easylab.learning_assistant.exam.service.translation.ExamTranslationService;
 import kr.easylab.learning_assistant.question.entity.Answer;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,11 +18,29 @@ import java.util.stream.IntStream;
 
 @Transactional(readOnly = true)
 @Service
-@RequiredArgsConstructor
 public class ExamQuestionMapper {
     private final ExamTranslationService examTranslationService;
+    private final ExamTranslationService baseTranslationService;
+
+    public ExamQuestionMapper(
+            ExamTranslationService examTranslationService,
+            @Qualifier("translation-service-base") ExamTranslationService baseTranslationService) {
+        this.examTranslationService = examTranslationService;
+        this.baseTranslationService = baseTranslationService;
+    }
 
     public ExamQuestionResponse mapToDto(ExamQuestion examQuestion) {
+        return mapToDto(examQuestion, examTranslationService.translate(examQuestion.getExam().getId(), examQuestion.getNo()));
+    }
+
+    // 여러 문제를 한 번에 조회할 때는 다음 문제 번역을 미리 요청할 필요가 없으므로 예측 없이 번역
+    // 문제는 이미 조회되어 있으므로 번역을 위해 다시 조회하지 않음
+    public ExamQuestionResponse mapToDtoWithoutPrediction(ExamQuestion examQuestion) {
+        return mapToDto(examQuestion, baseTranslationService.translate(examQuestion));
+    }
+
+    // 사용자에게 보이는 순서(A, B, C ...)로 섞인 보기
+    public List<Answer> shuffleAnswers(ExamQuestion examQuestion) {
         // 복사본을 사용하여 원본 엔티티 순서에 영향이 가지 않도록 함.
         List<Answer> answerList = new ArrayList<>(examQuestion.getQuestion().getAnswer());
 
@@ -33,11 +52,38 @@ public class ExamQuestionMapper {
         );
 
         Collections.shuffle(answerList, random);
+        return answerList;
+    }
 
-        ExamTranslationResponse translation = examTranslationService.translate(
+    public String translateExplanation(ExamQuestion examQuestion) {
+        return examTranslationService.translate(
                 examQuestion.getExam().getId(),
                 examQuestion.getNo()
-        );
+        ).getExplanation();
+    }
+
+    // 사용자 상태만 만들며, 제목과 보기는 번역하지 않음. 답을 제출한 경우에만 해설을 번역
+    public ExamQuestionStateResponse mapToState(ExamQuestion examQuestion) {
+        ExamQuestionStateResponse.ExamQuestionStateResponseBuilder builder = ExamQuestionStateResponse.builder()
+                .questionId(examQuestion.getNo())
+                .version(examQuestion.getVersion())
+                .marker(examQuestion.getMarked());
+
+        if (!examQuestion.getUserAnswers().isEmpty()) {
+            List<Answer> answerList = shuffleAnswers(examQuestion);
+            List<String> actualAnswers = IntStream.range(0, answerList.size())
+                    .filter(index -> answerList.get(index).getCorrect())
+                    .mapToObj(index -> String.valueOf((char) ('A' + index)))
+                    .toList();
+            builder.userAnswers(examQuestion.getUserAnswers())
+                    .actualAnswers(actualAnswers)
+                    .explanation(translateExplanation(examQuestion));
+        }
+        return builder.build();
+    }
+
+    private ExamQuestionResponse mapToDto(ExamQuestion examQuestion, ExamTranslationResponse translation) {
+        List<Answer> answerList = shuffleAnswers(examQuestion);
 
         List<String> actualAnswers = new ArrayList<>();
         List<Option> options = IntStream.range(0, answerList.size())
@@ -63,6 +109,7 @@ public class ExamQuestionMapper {
                 ).count())
                 .options(options)
                 .marker(examQuestion.getMarked())
+                .version(examQuestion.getVersion())
                 .build();
 
         if (!examQuestion.getUserAnswers().isEmpty()) {
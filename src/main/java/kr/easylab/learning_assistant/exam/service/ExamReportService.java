@@ -6,6 +6,8 @@ import kr.easylab.learning_assistant.exam.entity.Exam;
 import kr.easylab.learning_assistant.exam.entity.ExamQuestion;
 import kr.easylab.learning_assistant.exam.exception.NotFoundExam;
 import kr.easylab.learning_assistant.exam.repository.ExamRepository;
+import kr.easylab.learning_assistant.exam.service.writebehind.ExamWriteBehindBuffer;
+import kr.easylab.learning_assistant.llm.dto.LLMCallSite;
 import kr.easylab.learning_assistant.llm.dto.LLMConfig;
 import kr.easylab.learning_assistant.llm.dto.LLMMessage;
 import kr.easylab.learning_assistant.llm.service.LLMService;
@@ -19,21 +21,21 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.stream.Collectors;
 
+// 방금 제출한 답과 쓰기 지연 버퍼에서 반영한 변경을 읽어야 하므로 읽기 전용 트랜잭션(복제본)이 아닌 주 DB 에서 조회
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
+@Transactional
 public class ExamReportService {
     private final ExamQuestionMapper examQuestionMapper;
     private final ExamRepository examRepository;
     private final QuestionBankService questionBankService;
     private final LLMService llmService;
+    private final ExamWriteBehindBuffer examWriteBehindBuffer;
 
 
-    private String generateSummary(Exam exam) {
-        StringBuilder userMessage = new StringBuilder("# 사용자가 푼 문제 목록\n");
+    String buildKnowledge(List<Question> questions) {
         StringBuilder knowledge = new StringBuilder("# 문제집 데이터 (이 문제들은 사용자에게 제공되지 않았습니다)\n");
-
-        for (Question question: questionBankService.getAllQuestions(exam.getQuestionBank().getId())) {
+        for (Question question: questions) {
             knowledge.append("## ").append(question.getTitle()).append("\n");
             knowledge.append("### 정답\n");
             for (Answer answer: question.getAnswer()) {
@@ -44,9 +46,20 @@ public class ExamReportService {
             knowledge.append(question.getExplanation()).append("\n");
 
         }
-        for (ExamQuestion examQuestion : exam.getExamQuestions()) {
+        return knowledge.toString();
+    }
+
+    String buildUserMessage(List<ExamQuestion> examQuestions) {
+        StringBuilder userMessage = new StringBuilder("# 사용자가 푼 문제 목록\n");
+        for (ExamQuestion examQuestion : examQuestions) {
             userMessage.append(examQuestionMapper.mapToString(examQuestion)).append("\n");
         }
+        return userMessage.toString();
+    }
+
+    private String generateSummary(Exam exam) {
+        String knowledge = buildKnowledge(questionBankService.getAllQuestions(exam.getQuestionBank().getId()));
+        String userMessage = buildUserMessage(exam.getExamQuestions());
         String prompt = """
         당신은 사용자가 푼 문제를 기반으로 학습 피드백을 제공하는 어시스턴트입니다.
         
@@ -72,12 +85,21 @@ public class ExamReportService {
         return llmService.generate(
                 List.of(LLMMessage.builder()
                         .role(LLMMessage.Role.USER)
-                        .text(userMessage.toString())
+                        .text(userMessage)
                         .build())
-                , LLMConfig.builder().prompt(prompt).build()
+                , LLMConfig.builder().prompt(prompt).callSite(LLMCallSite.REPORT).build()
         );
     }
 
+    public Long getResultVersion(Long examId) {
+        if (examRepository.findById(examId) == null)
+            throw new NotFoundExam();
+
+        // 결과는 DB 의 문제 상태로 만들어지므로 쓰기 지연 중인 변경을 먼저 반영
+        examWriteBehindBuffer.flush();
+        return examRepository.sumQuestionVersions(examId);
+    }
+
     public ExamResultResponse getResult(Long examId) {
         Exam exam = examRepository.findById(examId); // throw NotFoundExam
 
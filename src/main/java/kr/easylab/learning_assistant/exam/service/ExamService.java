@@ -4,6 +4,7 @@ import kr.easylab.learning_assistant.exam.dto.*;
 import kr.easylab.learning_assistant.exam.entity.Exam;
 import kr.easylab.learning_assistant.exam.exception.NotFoundExam;
 import kr.easylab.learning_assistant.exam.exception.NotFoundExamQuestion;
+import reactor.core.publisher.Flux;
 
 public interface ExamService {
     Long createExam(ExamCreationRequest request);
@@ -12,6 +13,10 @@ public interface ExamService {
     Long getQuestionCount(Long examId);
 
     ExamQuestionResponse getQuestion(Long examId, Long no) throws NotFoundExamQuestion;
+    ExamQuestionContentResponse getQuestionContent(Long examId, Long no) throws NotFoundExamQuestion;
+    ExamQuestionStateResponse getQuestionState(Long examId, Long no) throws NotFoundExamQuestion;
+    String getQuestionStateVersion(Long examId, Long no) throws NotFoundExamQuestion;
+    Flux<ExamQuestionResponse> streamQuestions(Long examId, Long from, Long size) throws NotFoundExam;
     AnswerResponse submitAnswer(Long examId, Long no, ExamAnswerRequest request) throws NotFoundExamQuestion;
     void markQuestion(Long examId, Long no);
     void unmarkQuestion(Long examId, Long no);
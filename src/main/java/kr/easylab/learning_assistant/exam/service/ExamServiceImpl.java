@@ -4,19 +4,29 @@ import kr.easylab.learning_assistant.exam.dto.*;
 import kr.easylab.learning_assistant.translation.dto.Language;
 import kr.easylab.learning_assistant.exam.entity.Exam;
 import kr.easylab.learning_assistant.exam.entity.ExamQuestion;
+import kr.easylab.learning_assistant.exam.exception.ExamQuestionVersionConflict;
+import kr.easylab.learning_assistant.exam.exception.InvalidExamAnswer;
 import kr.easylab.learning_assistant.exam.exception.NotFoundExam;
 import kr.easylab.learning_assistant.exam.exception.NotFoundExamQuestion;
 import kr.easylab.learning_assistant.exam.repository.ExamRepository;
 import kr.easylab.learning_assistant.exam.service.translation.ExamTranslationPredictiveService;
+import kr.easylab.learning_assistant.exam.service.writebehind.ExamInteractionEvent;
+import kr.easylab.learning_assistant.exam.service.writebehind.ExamWriteBehindBuffer;
+import kr.easylab.learning_assistant.exam.service.writebehind.PendingExamQuestionState;
+import kr.easylab.learning_assistant.question.entity.Answer;
 import kr.easylab.learning_assistant.question.entity.Question;
 import kr.easylab.learning_assistant.question.service.QuestionBankService;
 import kr.easylab.learning_assistant.translation.dto.Language;
 import kr.easylab.learning_assistant.translation.dto.Language;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
 import java.util.*;
 
 @Transactional
@@ -26,6 +36,10 @@ public class ExamServiceImpl implements ExamService {
     private final QuestionBankService questionBankService;
     private final ExamRepository examRepository;
     private final ExamQuestionMapper examQuestionMapper;
+    private final ExamWriteBehindBuffer examWriteBehindBuffer;
+
+    @Value("${exam.bootstrap.concurrency}")
+    private int bootstrapConcurrency;
 
     @Override
     public Long createExam(ExamCreationRequest request) {
@@ -77,11 +91,81 @@ public class ExamServiceImpl implements ExamService {
 
     @Override
     public ExamQuestionResponse getQuestion(Long examId, Long no) throws NotFoundExamQuestion {
+        return examQuestionMapper.mapToDto(findQuestionWithPending(examId, no));
+    }
+
+    @Override
+    public ExamQuestionContentResponse getQuestionContent(Long examId, Long no) throws NotFoundExamQuestion {
+        // 내용은 사용자 상태와 무관하므로 쓰기 지연 중인 변경을 덮어쓰지 않음
+        ExamQuestionResponse response = examQuestionMapper.mapToDto(findQuestionOrThrow(examId, no));
+        return ExamQuestionContentResponse.builder()
+                .questionId(response.getQuestionId())
+                .title(response.getTitle())
+                .answerCount(response.getAnswerCount())
+                .options(response.getOptions())
+                .build();
+    }
+
+    @Override
+    public ExamQuestionStateResponse getQuestionState(Long examId, Long no) throws NotFoundExamQuestion {
+        return examQuestionMapper.mapToState(findQuestionWithPending(examId, no));
+    }
+
+    @Override
+    public String getQuestionStateVersion(Long examId, Long no) throws NotFoundExamQuestion {
+        Long version = examRepository.findQuestionVersion(examId, no);
+        if (version == null) {
+            throw new NotFoundExamQuestion();
+        }
+
+        // 아직 반영되지 않은 변경이 있으면 그 순번을 붙여, 반영 전후 모두 다른 버전으로 보이도록 함
+        return examWriteBehindBuffer.getPending(examId, no)
+                .map(pending -> version + "." + pending.getSeq())
+                .orElse(String.valueOf(version));
+    }
+
+    private ExamQuestion findQuestionOrThrow(Long examId, Long no) throws NotFoundExamQuestion {
         ExamQuestion examQuestion = examRepository.findQuestion(examId, no);
         if (examQuestion == null) {
             throw new NotFoundExamQuestion();
         }
-        return examQuestionMapper.mapToDto(examQuestion);
+        return examQuestion;
+    }
+
+    private ExamQuestion findQuestionWithPending(Long examId, Long no) throws NotFoundExamQuestion {
+        return withPending(findQuestionOrThrow(examId, no));
+    }
+
+    // DB 상태 위에 쓰기 지연 중인 변경을 덮어씀
+    private ExamQuestion withPending(ExamQuestion examQuestion) {
+        Optional<PendingExamQuestionState> pending = examWriteBehindBuffer.getPending(examQuestion.getExam().getId(), examQuestion.getNo());
+        if (pending.isPresent()) {
+            examRepository.detach(examQuestion);
+            ExamInteractionEvent mark = pending.get().getMark();
+            ExamInteractionEvent answer = pending.get().getAnswer();
+            examQuestion.overlay(
+                    mark == null ? null : mark.getMarked(),
+                    answer == null ? null : answer.getAnswerMask(),
+                    answer == null ? null : answer.getCorrect()
+            );
+        }
+        return examQuestion;
+    }
+
+    @Override
+    public Flux<ExamQuestionResponse> streamQuestions(Long examId, Long from, Long size) throws NotFoundExam {
+        if (examRepository.findById(examId) == null) {
+            throw new NotFoundExam();
+        }
+        // 창 안의 문제는 한 번에 조회하고, 번역만 문제마다 따로 진행
+        List<ExamQuestion> examQuestions = examRepository.findQuestions(examId, from, from + size).stream()
+                .map(this::withPending)
+                .toList();
+
+        // 번역은 동시에 진행하되, 문제 순서대로 내보내 첫 문제를 먼저 그릴 수 있도록 함
+        return Flux.fromIterable(examQuestions)
+                .flatMapSequential(examQuestion -> Mono.fromCallable(() -> examQuestionMapper.mapToDtoWithoutPrediction(examQuestion))
+                        .subscribeOn(Schedulers.boundedElastic()), bootstrapConcurrency);
     }
 
     @Override
@@ -91,38 +175,75 @@ public class ExamServiceImpl implements ExamService {
             throw new NotFoundExamQuestion();
         }
 
-        examQuestion.setUserAnswers(request.getUserAnswers());
-
-        ExamQuestionResponse examQuestionResponse = examQuestionMapper.mapToDto(examQuestion);
+        List<Answer> answers = examQuestionMapper.shuffleAnswers(examQuestion);
+        int correctMask = 0;
+        for (int index = 0; index < answers.size(); index++) {
+            if (answers.get(index).getCorrect())
+                correctMask |= 1 << index;
+        }
+        int answerMask = toAnswerMask(request.getUserAnswers(), answers.size());
+
+        if (examWriteBehindBuffer.isEnabled()) {
+            // 쓰기 지연 모드에서는 마지막으로 제출된 답이 반영되며 version 검사는 하지 않음
+            examWriteBehindBuffer.record(ExamInteractionEvent.builder()
+                    .type(ExamInteractionEvent.Type.ANSWER)
+                    .examId(examId)
+                    .no(no)
+                    .examQuestionId(examQuestion.getId())
+                    .answerMask(answerMask)
+                    .correct(answerMask == correctMask)
+                    .build());
+        } else {
+            // 엔티티를 수정하지 않고 조건부 UPDATE 한 번으로 저장하여 동시에 제출되어도 마지막 답 하나만 반영됨
+            int updated = examRepository.updateAnswer(examQuestion.getId(), answerMask, answerMask == correctMask, request.getVersion());
+            if (updated == 0 && request.getVersion() != null && !Integer.valueOf(answerMask).equals(examRepository.findAnswerMask(examQuestion.getId()))) {
+                throw new ExamQuestionVersionConflict();
+            }
+        }
 
-        examQuestion.setCorrect(
-                examQuestionResponse.getActualAnswers().size() == request.getUserAnswers().size() &&
-                        new HashSet<>(examQuestionResponse.getActualAnswers())
-                                .equals(new HashSet<>(request.getUserAnswers()))
-        );
         return AnswerResponse.builder()
-                .actualAnswers(examQuestionResponse.getActualAnswers())
-                .explanation(examQuestionResponse.getExplanation())
+                .actualAnswers(ExamQuestion.fromAnswerMask(correctMask))
+                .explanation(examQuestionMapper.translateExplanation(examQuestion))
                 .build();
     }
 
     @Override
     public void markQuestion(Long examId, Long no) {
-        ExamQuestion examQuestion = examRepository.findQuestion(examId, no);
-        if (examQuestion == null) {
-            throw new NotFoundExamQuestion();
-        }
-
-        examQuestion.setMarked(true);
+        updateMarked(examId, no, true);
     }
 
     @Override
     public void unmarkQuestion(Long examId, Long no) {
-        ExamQuestion examQuestion = examRepository.findQuestion(examId, no);
-        if (examQuestion == null) {
+        updateMarked(examId, no, false);
+    }
+
+    private void updateMarked(Long examId, Long no, Boolean marked) {
+        if (examWriteBehindBuffer.isEnabled()) {
+            if (examRepository.findQuestionVersion(examId, no) == null) {
+                throw new NotFoundExamQuestion();
+            }
+            examWriteBehindBuffer.record(ExamInteractionEvent.builder()
+                    .type(ExamInteractionEvent.Type.MARK)
+                    .examId(examId)
+                    .no(no)
+                    .marked(marked)
+                    .build());
+            return;
+        }
+
+        // 이미 같은 상태라면 바뀌는 행이 없으므로, 이때만 문제가 존재하는지 확인
+        if (examRepository.updateMarked(examId, no, marked) == 0 && examRepository.findQuestionVersion(examId, no) == null) {
             throw new NotFoundExamQuestion();
         }
+    }
 
-        examQuestion.setMarked(false);
+    private int toAnswerMask(List<String> userAnswers, int optionCount) {
+        int answerMask = 0;
+        for (String key : userAnswers) {
+            if (key == null || key.length() != 1 || key.charAt(0) < 'A' || key.charAt(0) >= 'A' + optionCount)
+                throw new InvalidExamAnswer();
+            answerMask |= 1 << (key.charAt(0) - 'A');
+        }
+        return answerMask;
     }
 }
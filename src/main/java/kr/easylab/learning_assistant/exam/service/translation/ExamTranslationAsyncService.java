@@ -6,4 +6,5 @@ import java.util.concurrent.CompletableFuture;
 
 public interface ExamTranslationAsyncService {
     CompletableFuture<ExamTranslationResponse> translate(Long examId, Long no);
+    CompletableFuture<ExamTranslationResponse> prefetch(Long examId, Long no);
 }
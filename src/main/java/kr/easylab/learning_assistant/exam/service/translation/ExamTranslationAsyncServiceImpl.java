@@ -1,6 +1,11 @@
 package kr.easylab.learning_assistant.exam.service.translation;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import kr.easylab.learning_assistant.exam.dto.ExamTranslationResponse;
+import kr.easylab.learning_assistant.llm.dto.LLMCallSite;
+import kr.easylab.learning_assistant.llm.exception.LLMOverloaded;
+import kr.easylab.learning_assistant.llm.service.LLMCallContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Async;
@@ -11,15 +16,47 @@ import java.util.concurrent.CompletableFuture;
 @Service
 public class ExamTranslationAsyncServiceImpl implements ExamTranslationAsyncService {
     private final ExamTranslationService examTranslationService;
+    private final ObservationRegistry observationRegistry;
+    private final TranslationPrefetchTracker translationPrefetchTracker;
 
     public ExamTranslationAsyncServiceImpl(
-            @Qualifier("translation-service-base") ExamTranslationService examTranslationService) {
+            @Qualifier("translation-service-base") ExamTranslationService examTranslationService,
+            ObservationRegistry observationRegistry,
+            TranslationPrefetchTracker translationPrefetchTracker) {
         this.examTranslationService = examTranslationService;
+        this.observationRegistry = observationRegistry;
+        this.translationPrefetchTracker = translationPrefetchTracker;
+    }
+
+    private ExamTranslationResponse observe(String mode, Long examId, Long no) {
+        return Observation.createNotStarted("exam.translation.task", observationRegistry)
+                .lowCardinalityKeyValue("mode", mode)
+                .highCardinalityKeyValue("exam.id", String.valueOf(examId))
+                .highCardinalityKeyValue("question.no", String.valueOf(no))
+                .observe(() -> examTranslationService.translate(examId, no));
     }
 
     @Override
     @Async
     public CompletableFuture<ExamTranslationResponse> translate(Long examId, Long no) {
-        return CompletableFuture.completedFuture(examTranslationService.translate(examId, no));
+        return CompletableFuture.completedFuture(observe("foreground", examId, no));
+    }
+
+    @Override
+    @Async
+    public CompletableFuture<ExamTranslationResponse> prefetch(Long examId, Long no) {
+        translationPrefetchTracker.started();
+        // 사용자가 아직 요청하지 않은 문제의 번역은 지표에서 prefetch 로 구분
+        ExamTranslationResponse response;
+        try {
+            response = LLMCallContext.with(LLMCallSite.PREFETCH, () -> observe("prefetch", examId, no));
+        } catch (LLMOverloaded e) {
+            // LLM 호출이 몰려 선행 번역을 버림. 사용자가 문제를 열 때 다시 번역함
+            return CompletableFuture.completedFuture(null);
+        }
+        // 시험의 마지막 문제 이후처럼 번역할 문제가 없으면 null
+        if (response != null)
+            translationPrefetchTracker.prefetched(examId, no);
+        return CompletableFuture.completedFuture(response);
     }
 }
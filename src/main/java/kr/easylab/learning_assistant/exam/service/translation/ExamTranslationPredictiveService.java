@@ -1,7 +1,10 @@
 package kr.easylab.learning_assistant.exam.service.translation;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import kr.easylab.learning_assistant.exam.dto.ExamTranslationRequest;
 import kr.easylab.learning_assistant.exam.dto.ExamTranslationResponse;
+import kr.easylab.learning_assistant.exam.entity.ExamQuestion;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,13 +33,25 @@ public class ExamTranslationPredictiveService implements ExamTranslationService
     private int predictionCount;
 
     private final ExamTranslationAsyncService examTranslationAsyncService;
+    private final ObservationRegistry observationRegistry;
+    private final TranslationPrefetchTracker translationPrefetchTracker;
 
 
     public ExamTranslationResponse translate(Long examId, Long no) {
+        translationPrefetchTracker.requested(examId, no);
+
         List<CompletableFuture<ExamTranslationResponse>> tasks = new ArrayList<>();
-        for (int i = 0; i < predictionCount + 1; i++) {
-            tasks.add(examTranslationAsyncService.translate(examId, no + i));
+        tasks.add(examTranslationAsyncService.translate(examId, no));
+        for (int i = 1; i < predictionCount + 1; i++) {
+            translationPrefetchTracker.queued();
+            tasks.add(examTranslationAsyncService.prefetch(examId, no + i));
         }
-        return tasks.getFirst().join();
+        // 선행 번역을 기다리는 시간이 trace 에 드러나도록 별도 span 으로 기록
+        return Observation.createNotStarted("exam.translation.join", observationRegistry)
+                .observe(() -> tasks.getFirst().join());
+    }
+
+    public ExamTranslationResponse translate(ExamQuestion examQuestion) {
+        return translate(examQuestion.getExam().getId(), examQuestion.getNo());
     }
 }
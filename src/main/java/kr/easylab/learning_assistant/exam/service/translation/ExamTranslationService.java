@@ -1,9 +1,13 @@
 package kr.easylab.learning_assistant.exam.service.translation;
 
 import kr.easylab.learning_assistant.exam.dto.ExamTranslationResponse;
+import kr.easylab.learning_assistant.exam.entity.ExamQuestion;
 
 import java.util.concurrent.CompletableFuture;
 
 public interface ExamTranslationService {
     ExamTranslationResponse translate(Long examId, Long no);
+
+    // 이미 조회한 문제를 번역. 캐시는 translate(examId, no) 와 공유
+    ExamTranslationResponse translate(ExamQuestion examQuestion);
 }
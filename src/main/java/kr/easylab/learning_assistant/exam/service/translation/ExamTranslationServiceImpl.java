@@ -34,7 +34,15 @@ public class ExamTranslationServiceImpl implements ExamTranslationService {
         ExamQuestion examQuestion = examRepository.findQuestion(examId, no);
         if (examQuestion == null)
             return null;
+        return translateQuestion(examQuestion);
+    }
+
+    @Cacheable(value = "exam-translation", key = "new org.springframework.cache.interceptor.SimpleKey(#p0.exam.id, #p0.no)", sync = true)
+    public ExamTranslationResponse translate(ExamQuestion examQuestion) {
+        return translateQuestion(examQuestion);
+    }
 
+    private ExamTranslationResponse translateQuestion(ExamQuestion examQuestion) {
         Language targetLanguage = examQuestion.getExam().getLanguage();
 
         String title = examQuestion.getQuestion().getTitle();
@@ -0,0 +1,70 @@
+package kr.easylab.learning_assistant.exam.service.translation;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// 선행 번역이 실행을 기다리는 수와, 미리 번역했지만 사용자가 요청하지 않은 비율을 추적
+// prefetch_ttl 안에 요청되지 않은 선행 번역은 낭비된 것으로 봄
+@Component
+public class TranslationPrefetchTracker {
+    private record Key(Long examId, Long no) {
+    }
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder used = new LongAdder();
+    private final LongAdder wasted = new LongAdder();
+    private final Cache<Key, Boolean> unused;
+
+    public TranslationPrefetchTracker(@Value("${translation.prefetch_ttl}") Duration prefetchTtl) {
+        this.unused = CacheBuilder.newBuilder()
+                .expireAfterWrite(prefetchTtl)
+                .maximumSize(100_000)
+                .removalListener((RemovalNotification<Key, Boolean> notification) -> {
+                    if (notification.wasEvicted())
+                        wasted.increment();
+                })
+                .build();
+    }
+
+    public void queued() {
+        queued.incrementAndGet();
+    }
+
+    public void started() {
+        queued.decrementAndGet();
+    }
+
+    public void prefetched(Long examId, Long no) {
+        unused.put(new Key(examId, no), true);
+    }
+
+    public void requested(Long examId, Long no) {
+        if (unused.asMap().remove(new Key(examId, no)) != null)
+            used.increment();
+    }
+
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    public long getUnusedCount() {
+        unused.cleanUp();
+        return unused.size();
+    }
+
+    public long getUsedCount() {
+        return used.sum();
+    }
+
+    public long getWastedCount() {
+        unused.cleanUp();
+        return wasted.sum();
+    }
+}
@@ -0,0 +1,34 @@
+package kr.easylab.learning_assistant.exam.service.writebehind;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// WAL 에 한 줄씩 기록되는 문제 상태 변경
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExamInteractionEvent {
+    public enum Type {
+        MARK,
+        ANSWER
+    }
+
+    @Setter
+    private Long seq;
+
+    private Type type;
+    private Long examId;
+    private Long no;
+
+    // MARK
+    private Boolean marked;
+
+    // ANSWER
+    private Long examQuestionId;
+    private Integer answerMask;
+    private Boolean correct;
+}
@@ -0,0 +1,228 @@
+package kr.easylab.learning_assistant.exam.service.writebehind;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.easylab.learning_assistant.exam.repository.ExamRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// 마커, 답 제출을 바로 커밋하지 않고 메모리와 WAL 파일에 기록한 뒤 주기적으로 모아서 DB 에 반영
+// WAL 은 세그먼트 단위로 기록되며, 세그먼트에 담긴 변경이 모두 커밋되면 삭제됨
+@Slf4j
+@Component
+public class ExamWriteBehindBuffer {
+    private record QuestionKey(Long examId, Long no) {
+    }
+
+    private static final String SEGMENT_PREFIX = "exam-interactions-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+
+    private final ExamRepository examRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Path walDirectory;
+
+    private final Object lock = new Object();
+    private final Object flushLock = new Object();
+
+    // lock 으로 보호
+    private final Map<QuestionKey, PendingExamQuestionState> pending = new HashMap<>();
+    private final List<Path> sealedSegments = new ArrayList<>();
+    private long seq = 0;
+    private long segmentNo = 0;
+    private Path segment;
+    private FileChannel wal;
+
+    public ExamWriteBehindBuffer(
+            ExamRepository examRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${exam.write_behind.enabled}") boolean enabled,
+            @Value("${exam.write_behind.wal_dir}") Path walDirectory) {
+        this.examRepository = examRepository;
+        // 읽기 전용 트랜잭션 안에서 flush 가 호출되어도 별도 트랜잭션으로 커밋
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.walDirectory = walDirectory;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 이전 프로세스가 반영하지 못하고 남긴 WAL 을 먼저 DB 에 반영
+    @PostConstruct
+    void recover() throws IOException {
+        if (!enabled)
+            return;
+
+        Files.createDirectories(walDirectory);
+        List<Path> segments = listSegments();
+        List<ExamInteractionEvent> events = new ArrayList<>();
+        for (Path path : segments) {
+            segmentNo = Math.max(segmentNo, segmentNo(path));
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    // 기록 도중 종료되어 잘린 마지막 줄은 무시
+                    try {
+                        events.add(objectMapper.readValue(line, ExamInteractionEvent.class));
+                    } catch (IOException e) {
+                        log.warn("Skipping truncated write-behind record in {}", path);
+                    }
+                }
+            }
+        }
+
+        if (!events.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> examRepository.applyInteractions(events));
+            log.info("Recovered {} exam interaction events from write-behind log.", events.size());
+        }
+        for (Path path : segments)
+            Files.delete(path);
+        openSegment();
+    }
+
+    public void record(ExamInteractionEvent event) {
+        synchronized (lock) {
+            event.setSeq(++seq);
+            try {
+                wal.write(ByteBuffer.wrap((objectMapper.writeValueAsString(event) + "\n").getBytes(StandardCharsets.UTF_8)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            pending.computeIfAbsent(new QuestionKey(event.getExamId(), event.getNo()), key -> new PendingExamQuestionState())
+                    .apply(event);
+        }
+    }
+
+    public int getPendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    public Optional<PendingExamQuestionState> getPending(Long examId, Long no) {
+        synchronized (lock) {
+            return Optional.ofNullable(pending.get(new QuestionKey(examId, no))).map(PendingExamQuestionState::copy);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${exam.write_behind.flush_interval}")
+    public void flush() {
+        if (!enabled)
+            return;
+
+        synchronized (flushLock) {
+            Map<QuestionKey, PendingExamQuestionState> snapshot = new HashMap<>();
+            List<Path> flushedSegments;
+            synchronized (lock) {
+                if (pending.isEmpty())
+                    return;
+                pending.forEach((key, state) -> snapshot.put(key, state.copy()));
+                flushedSegments = sealSegment();
+            }
+
+            List<ExamInteractionEvent> events = snapshot.values().stream()
+                    .flatMap(state -> Stream.of(state.getMark(), state.getAnswer()))
+                    .filter(event -> event != null)
+                    .sorted(Comparator.comparing(ExamInteractionEvent::getSeq))
+                    .toList();
+            try {
+                transactionTemplate.executeWithoutResult(status -> examRepository.applyInteractions(events));
+            } catch (RuntimeException e) {
+                // 남은 변경과 WAL 은 그대로 두고 다음 주기에 다시 시도
+                log.error("Failed to flush {} exam interaction events, will retry.", events.size(), e);
+                return;
+            }
+
+            synchronized (lock) {
+                // 반영하는 동안 새로 바뀐 문제는 남겨둠
+                snapshot.forEach((key, state) -> pending.computeIfPresent(key, (k, current) -> current.getSeq() == state.getSeq() ? null : current));
+                sealedSegments.removeAll(flushedSegments);
+            }
+            for (Path path : flushedSegments) {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("Failed to delete write-behind segment {}", path, e);
+                }
+            }
+            log.debug("Flushed {} exam interaction events.", events.size());
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        if (!enabled)
+            return;
+
+        flush();
+        synchronized (lock) {
+            wal.close();
+            if (pending.isEmpty())
+                Files.deleteIfExists(segment);
+        }
+    }
+
+    // lock 을 잡은 상태에서 호출. 현재 세그먼트를 닫고 새 세그먼트를 열어, 반영할 세그먼트 목록을 반환
+    private List<Path> sealSegment() {
+        try {
+            wal.force(false);
+            wal.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        sealedSegments.add(segment);
+        openSegment();
+        return new ArrayList<>(sealedSegments);
+    }
+
+    private void openSegment() {
+        segment = walDirectory.resolve(SEGMENT_PREFIX + (++segmentNo) + SEGMENT_SUFFIX);
+        try {
+            wal = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(walDirectory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .sorted(Comparator.comparingLong(this::segmentNo))
+                    .toList();
+        }
+    }
+
+    private long segmentNo(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,28 @@
+package kr.easylab.learning_assistant.exam.service.writebehind;
+
+import lombok.Getter;
+
+// 아직 DB 에 반영되지 않은 문제별 최신 상태. 같은 문제에 대한 변경은 마지막 값만 남김
+@Getter
+public class PendingExamQuestionState {
+    private ExamInteractionEvent mark;
+    private ExamInteractionEvent answer;
+    private long seq;
+
+    PendingExamQuestionState apply(ExamInteractionEvent event) {
+        if (event.getType() == ExamInteractionEvent.Type.MARK)
+            mark = event;
+        else
+            answer = event;
+        seq = event.getSeq();
+        return this;
+    }
+
+    PendingExamQuestionState copy() {
+        PendingExamQuestionState copy = new PendingExamQuestionState();
+        copy.mark = mark;
+        copy.answer = answer;
+        copy.seq = seq;
+        return copy;
+    }
+}
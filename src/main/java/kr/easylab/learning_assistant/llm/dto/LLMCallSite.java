@@ -0,0 +1,23 @@
+package kr.easylab.learning_assistant.llm.dto;
+
+import lombok.Getter;
+
+// LLM 호출이 어느 기능에서 발생했는지 구분하기 위한 값 (지표의 call_site 태그)
+@Getter
+public enum LLMCallSite {
+    TRANSLATION("translation", LLMPriority.INTERACTIVE),
+    PREFETCH("prefetch", LLMPriority.SPECULATIVE),
+    CHAT("chat", LLMPriority.INTERACTIVE),
+    CHAT_STREAM("chat-stream", LLMPriority.INTERACTIVE),
+    PRESET("preset", LLMPriority.BACKGROUND),
+    REPORT("report", LLMPriority.BACKGROUND),
+    UNKNOWN("unknown", LLMPriority.BACKGROUND);
+
+    private final String tag;
+    private final LLMPriority priority;
+
+    LLMCallSite(String tag, LLMPriority priority) {
+        this.tag = tag;
+        this.priority = priority;
+    }
+}
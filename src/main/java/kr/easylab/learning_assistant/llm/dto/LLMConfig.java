@@ -3,7 +3,6 @@ package kr.easylab.learning_assistant.llm.dto;
 import lombok.Builder;
 import lombok.Data;
 
-import java.util.Optional;
 
 @Data
 @Builder
@@ -14,4 +13,5 @@ public class LLMConfig {
     }
     private String prompt;
     private ThinkingMode thinking;
+    private LLMCallSite callSite;
 }
@@ -0,0 +1,11 @@
+package kr.easylab.learning_assistant.llm.dto;
+
+// 부하가 높을 때 먼저 처리할 호출과 먼저 포기할 호출을 구분 (선언 순서가 우선순위)
+public enum LLMPriority {
+    // 사용자가 화면에서 응답을 기다리는 호출 (채팅, 보고 있는 문제의 번역)
+    INTERACTIVE,
+    // 사용자에게 보이지만 조금 늦어도 되는 호출 (추천 질문, 학습 보고서)
+    BACKGROUND,
+    // 사용되지 않을 수도 있는 선행 호출. 여유가 있을 때만 실행하고 기다리지 않음
+    SPECULATIVE
+}
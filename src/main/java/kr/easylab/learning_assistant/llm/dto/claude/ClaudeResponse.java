@@ -11,4 +11,5 @@ public class ClaudeResponse {
     private String role;
     private List<ClaudeContentBlock> content;
     private String stopReason;
+    private ClaudeUsage usage;
 }
@@ -10,4 +10,6 @@ public class ClaudeStreamEvent {
     private Integer index;
     private ClaudeDelta delta;
     private Map<String, Object> error;
+    private ClaudeResponse message;   // message_start
+    private ClaudeUsage usage;        // message_delta
 }
@@ -0,0 +1,9 @@
+package kr.easylab.learning_assistant.llm.dto.claude;
+
+import lombok.Getter;
+
+@Getter
+public class ClaudeUsage {
+    private Long inputTokens;
+    private Long outputTokens;  // thinking 토큰이 포함됨
+}
@@ -8,4 +8,5 @@ import java.util.List;
 @Getter
 public class GenerateContentResponse {
     List<Candidate> candidates;
+    UsageMetadata usageMetadata;
 }
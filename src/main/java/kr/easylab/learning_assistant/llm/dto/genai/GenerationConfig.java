@@ -1,5 +1,6 @@
 package kr.easylab.learning_assistant.llm.dto.genai;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.models.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
@@ -10,6 +11,7 @@ import java.util.Map;
 @Builder
 @Setter
 @Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class GenerationConfig {
     private String responseMimeType;
     private Map<String, Object> responseSchema;
@@ -0,0 +1,10 @@
+package kr.easylab.learning_assistant.llm.dto.genai;
+
+import lombok.Getter;
+
+@Getter
+public class UsageMetadata {
+    Long promptTokenCount;
+    Long candidatesTokenCount;
+    Long thoughtsTokenCount;
+}
@@ -0,0 +1,13 @@
+package kr.easylab.learning_assistant.llm.exception;
+
+import kr.easylab.learning_assistant.common.annotation.HTTPResponseAnnotation;
+import kr.easylab.learning_assistant.common.exception.KnownException;
+import org.springframework.http.HttpStatus;
+
+// 동시 호출 한도에 막혀 LLM 을 호출하지 못함
+@HTTPResponseAnnotation(status = HttpStatus.SERVICE_UNAVAILABLE, errorCode = "LLM_OVERLOADED")
+public class LLMOverloaded extends KnownException {
+    public LLMOverloaded() {
+        super("AI 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
@@ -0,0 +1,13 @@
+package kr.easylab.learning_assistant.llm.exception;
+
+import kr.easylab.learning_assistant.common.annotation.HTTPResponseAnnotation;
+import kr.easylab.learning_assistant.common.exception.KnownException;
+import org.springframework.http.HttpStatus;
+
+// LLM 제공자가 429 로 응답함
+@HTTPResponseAnnotation(status = HttpStatus.SERVICE_UNAVAILABLE, errorCode = "LLM_RATE_LIMITED")
+public class LLMRateLimited extends KnownException {
+    public LLMRateLimited() {
+        super("AI 서비스의 요청 한도를 초과했습니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
@@ -2,16 +2,20 @@ package kr.easylab.learning_assistant.llm.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
 import io.swagger.v3.core.converter.AnnotatedType;
 import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.core.converter.ResolvedSchema;
 import kr.easylab.learning_assistant.llm.dto.LLMConfig;
 import kr.easylab.learning_assistant.llm.dto.LLMMessage;
+import kr.easylab.learning_assistant.llm.exception.LLMRateLimited;
 import kr.easylab.learning_assistant.llm.dto.claude.*;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.http.codec.json.Jackson2JsonEncoder;
@@ -25,35 +29,46 @@ import java.util.List;
 import java.util.Map;
 
 @Service
+@Qualifier("llm-service-base")
 @ConditionalOnProperty(prefix = "llm", name = "provider", havingValue = "anthropic")
 @Slf4j
 public class ClaudeLLMService implements LLMService {
     private static final String ANTHROPIC_VERSION = "2023-06-01";
     private static final long MAX_TOKENS = 16000L;
     private static final long THINKING_BUDGET_TOKENS = 10000L;
+    private static final String PROVIDER = "anthropic";
 
     private final String apiKey;
     private final String model;
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
     private final GoogleSchemaMappingService schemaMappingService;
+    private final LLMMetrics llmMetrics;
+    private final LLMMetrics.Pricing pricing;
 
     public ClaudeLLMService(
             @Value("${llm.anthropic.base_url}") String baseUrl,
             @Value("${llm.anthropic.api_key}") String apiKey,
             @Value("${llm.anthropic.model}") String model,
+            @Value("${llm.anthropic.cost.input_per_million}") double inputCostPerMillion,
+            @Value("${llm.anthropic.cost.output_per_million}") double outputCostPerMillion,
             ObjectMapper objectMapper,
-            GoogleSchemaMappingService schemaMappingService) {
+            GoogleSchemaMappingService schemaMappingService,
+            LLMMetrics llmMetrics,
+            ObservationRegistry observationRegistry) {
         this.apiKey = apiKey;
         this.model = model;
         this.objectMapper = objectMapper;
         this.schemaMappingService = schemaMappingService;
+        this.llmMetrics = llmMetrics;
+        this.pricing = new LLMMetrics.Pricing(inputCostPerMillion, outputCostPerMillion);
 
         // Configure WebClient with SNAKE_CASE ObjectMapper so field names match Claude's API
         this.webClient = WebClient.builder()
                 .baseUrl(baseUrl)
                 .defaultHeader("x-api-key", apiKey)
                 .defaultHeader("anthropic-version", ANTHROPIC_VERSION)
+                .observationRegistry(observationRegistry)
                 .codecs(configurer -> {
                     configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
                     configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
@@ -88,7 +103,7 @@ public class ClaudeLLMService implements LLMService {
         if (response == null || response.getContent() == null) return null;
         for (ClaudeContentBlock block : response.getContent()) {
             if ("text".equals(block.getType()) && block.getText() != null) {
-                log.info("API Response:\n{}", block.getText());
+                log.debug("API Response:\n{}", block.getText());
                 return block.getText();
             }
         }
@@ -114,6 +129,34 @@ public class ClaudeLLMService implements LLMService {
         return schema;
     }
 
+    private ClaudeResponse send(ClaudeRequest request, LLMConfig config) {
+        LLMMetrics.Call call = llmMetrics.start(PROVIDER, model, pricing, config);
+        try {
+            ClaudeResponse response = webClient.post()
+                    .uri("/v1/messages")
+                    .bodyValue(request)
+                    .retrieve()
+                    .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
+                            clientResponse -> clientResponse.bodyToMono(String.class)
+                                    .flatMap(errorBody -> {
+                                        log.error("Anthropic API Error ({}): {}", clientResponse.statusCode(), errorBody);
+                                        if (clientResponse.statusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS))
+                                            return Mono.error(new LLMRateLimited());
+                                        return Mono.error(new RuntimeException("Anthropic API Error: " + errorBody));
+                                    }))
+                    .bodyToMono(ClaudeResponse.class)
+                    .timeout(Duration.ofSeconds(240))
+                    .block();
+            if (response != null && response.getUsage() != null)
+                call.usage(response.getUsage().getInputTokens(), response.getUsage().getOutputTokens(), null);
+            call.success();
+            return response;
+        } catch (RuntimeException e) {
+            call.failure();
+            throw e;
+        }
+    }
+
     @Override
     public String generate(List<LLMMessage> messages, LLMConfig config) {
         ClaudeRequest request = ClaudeRequest.builder()
@@ -124,19 +167,7 @@ public class ClaudeLLMService implements LLMService {
                 .thinking(buildThinking(config))
                 .build();
 
-        ClaudeResponse response = webClient.post()
-                .uri("/v1/messages")
-                .bodyValue(request)
-                .retrieve()
-                .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
-                        clientResponse -> clientResponse.bodyToMono(String.class)
-                                .flatMap(errorBody -> {
-                                    log.error("Anthropic API Error ({}): {}", clientResponse.statusCode(), errorBody);
-                                    return Mono.error(new RuntimeException("Anthropic API Error: " + errorBody));
-                                }))
-                .bodyToMono(ClaudeResponse.class)
-                .timeout(Duration.ofSeconds(240))
-                .block();
+        ClaudeResponse response = send(request, config);
 
         String text = extractText(response);
         if (text == null) {
@@ -159,32 +190,54 @@ public class ClaudeLLMService implements LLMService {
         ParameterizedTypeReference<ServerSentEvent<ClaudeStreamEvent>> typeRef =
                 new ParameterizedTypeReference<>() {};
 
-        return webClient.post()
-                .uri("/v1/messages")
-                .bodyValue(request)
-                .retrieve()
-                .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
-                        clientResponse -> clientResponse.bodyToMono(String.class)
-                                .flatMap(errorBody -> {
-                                    log.error("Anthropic API Error ({}): {}", clientResponse.statusCode(), errorBody);
-                                    return Mono.error(new RuntimeException("Anthropic API Error: " + errorBody));
-                                }))
-                .bodyToFlux(typeRef)
-                .doOnNext(sse -> log.trace("Received SSE: id={}, event={}", sse.id(), sse.event()))
-                .mapNotNull(ServerSentEvent::data)
-                .concatMap(event -> {
-                    if ("error".equals(event.getType())) {
-                        return Mono.error(new RuntimeException("Anthropic stream error: " + event.getError()));
-                    }
-                    if ("content_block_delta".equals(event.getType())
-                            && event.getDelta() != null
-                            && "text_delta".equals(event.getDelta().getType())) {
-                        return Mono.just(event.getDelta().getText());
-                    }
-                    return Mono.empty();
-                })
-                .doOnError(error -> log.error("Error processing Anthropic stream: ", error))
-                .doOnComplete(() -> log.info("Anthropic stream processing completed."));
+        return Flux.defer(() -> {
+            LLMMetrics.Call call = llmMetrics.start(PROVIDER, model, pricing, config);
+            return webClient.post()
+                    .uri("/v1/messages")
+                    .bodyValue(request)
+                    .retrieve()
+                    .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
+                            clientResponse -> clientResponse.bodyToMono(String.class)
+                                    .flatMap(errorBody -> {
+                                        log.error("Anthropic API Error ({}): {}", clientResponse.statusCode(), errorBody);
+                                        if (clientResponse.statusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS))
+                                            return Mono.error(new LLMRateLimited());
+                                        return Mono.error(new RuntimeException("Anthropic API Error: " + errorBody));
+                                    }))
+                    .bodyToFlux(typeRef)
+                    .doOnNext(sse -> log.trace("Received SSE: id={}, event={}", sse.id(), sse.event()))
+                    .mapNotNull(ServerSentEvent::data)
+                    .doOnNext(event -> {
+                        if (event.getMessage() != null && event.getMessage().getUsage() != null)
+                            call.usage(event.getMessage().getUsage().getInputTokens(), event.getMessage().getUsage().getOutputTokens(), null);
+                        if (event.getUsage() != null)
+                            call.usage(event.getUsage().getInputTokens(), event.getUsage().getOutputTokens(), null);
+                    })
+                    .concatMap(event -> {
+                        if ("error".equals(event.getType())) {
+                            return Mono.error(new RuntimeException("Anthropic stream error: " + event.getError()));
+                        }
+                        if ("content_block_delta".equals(event.getType())
+                                && event.getDelta() != null
+                                && "text_delta".equals(event.getDelta().getType())) {
+                            return Mono.just(event.getDelta().getText());
+                        }
+                        return Mono.empty();
+                    })
+                    .doOnNext(text -> call.firstToken())
+                    .doOnError(error -> {
+                        log.error("Error processing Anthropic stream: ", error);
+                        call.failure();
+                    })
+                    .doOnCancel(() -> {
+                        log.info("Anthropic stream cancelled by subscriber.");
+                        call.cancel();
+                    })
+                    .doOnComplete(() -> {
+                        log.info("Anthropic stream processing completed.");
+                        call.success();
+                    });
+        });
     }
 
     @Override
@@ -211,19 +264,7 @@ public class ClaudeLLMService implements LLMService {
                 .outputConfig(outputConfig)
                 .build();
 
-        ClaudeResponse response = webClient.post()
-                .uri("/v1/messages")
-                .bodyValue(request)
-                .retrieve()
-                .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
-                        clientResponse -> clientResponse.bodyToMono(String.class)
-                                .flatMap(errorBody -> {
-                                    log.error("Anthropic API Error ({}): {}", clientResponse.statusCode(), errorBody);
-                                    return Mono.error(new RuntimeException("Anthropic API Error: " + errorBody));
-                                }))
-                .bodyToMono(ClaudeResponse.class)
-                .timeout(Duration.ofSeconds(240))
-                .block();
+        ClaudeResponse response = send(request, config);
 
         String text = extractText(response);
         if (text == null) {
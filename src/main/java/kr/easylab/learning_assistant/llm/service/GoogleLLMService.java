@@ -3,6 +3,7 @@ package kr.easylab.learning_assistant.llm.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
 import io.swagger.v3.core.converter.AnnotatedType;
 import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.core.converter.ResolvedSchema;
@@ -11,14 +12,17 @@ import jakarta.annotation.PostConstruct;
 import jakarta.validation.constraints.NotNull;
 import kr.easylab.learning_assistant.llm.dto.LLMConfig;
 import kr.easylab.learning_assistant.llm.dto.LLMMessage;
+import kr.easylab.learning_assistant.llm.exception.LLMRateLimited;
 import kr.easylab.learning_assistant.llm.dto.genai.*;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
@@ -34,9 +38,12 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
+@Qualifier("llm-service-base")
 @ConditionalOnProperty(prefix = "llm", name = "provider", havingValue = "google")
 @Slf4j
 public class GoogleLLMService implements LLMService {
+    private static final String PROVIDER = "google";
+
     private final String baseURL;
     private final String apiKey;
     private final String model;
@@ -45,24 +52,41 @@ public class GoogleLLMService implements LLMService {
     private final ObjectMapper objectMapper;
     private final GoogleSchemaMappingService schemaMappingService;
     private final GoogleSchemaMappingService googleSchemaMappingService;
+    private final LLMMetrics llmMetrics;
+    private final LLMMetrics.Pricing pricing;
 
     public GoogleLLMService(
             @Value("${llm.google.base_url}") String baseURL,
             @Value("${llm.google.api_key}") String apiKey,
             @Value("${llm.google.model}") String model,
+            @Value("${llm.google.cost.input_per_million}") double inputCostPerMillion,
+            @Value("${llm.google.cost.output_per_million}") double outputCostPerMillion,
             ObjectMapper objectMapper,
             GoogleSchemaMappingService schemaMappingService,
-            GoogleSchemaMappingService googleSchemaMappingService) {
+            GoogleSchemaMappingService googleSchemaMappingService,
+            LLMMetrics llmMetrics,
+            ObservationRegistry observationRegistry) {
         this.baseURL = baseURL;
         this.apiKey = apiKey;
         this.model = model;
         this.objectMapper = objectMapper;
         this.schemaMappingService = schemaMappingService;
 
+        // API 키는 쿼리 대신 헤더로 전달하여 http.client.requests span 의 URL 태그에 남지 않도록 함
         this.webClient = WebClient.builder()
                 .baseUrl(baseURL)
+                .defaultHeader("x-goog-api-key", apiKey)
+                .observationRegistry(observationRegistry)
                 .build();
         this.googleSchemaMappingService = googleSchemaMappingService;
+        this.llmMetrics = llmMetrics;
+        this.pricing = new LLMMetrics.Pricing(inputCostPerMillion, outputCostPerMillion);
+    }
+
+    private void recordUsage(LLMMetrics.Call call, GenerateContentResponse response) {
+        UsageMetadata usage = response.getUsageMetadata();
+        if (usage != null)
+            call.usage(usage.getPromptTokenCount(), usage.getCandidatesTokenCount(), usage.getThoughtsTokenCount());
     }
 
     private String mapRole(LLMMessage.Role role) {
@@ -77,8 +101,11 @@ public class GoogleLLMService implements LLMService {
     }
 
     private String call(LLMConfig llmConfig, List<LLMMessage> messages, GenerationConfig config) {
-        if (llmConfig.getThinking() == LLMConfig.ThinkingMode.no)
+        if (llmConfig.getThinking() == LLMConfig.ThinkingMode.no) {
+            if (config == null)
+                config = GenerationConfig.builder().build();
             config.setThinkingConfig(ThinkingConfig.builder().thinkingBudget(0L).build());
+        }
         List<Content> contents = messages.stream().map(
                 message -> {
                     return Content.builder()
@@ -97,7 +124,6 @@ public class GoogleLLMService implements LLMService {
         Mono<GenerateContentResponse> stringMono = webClient.post()
                 .uri(uriBuilder -> uriBuilder
                         .path("/v1beta/models/" + model + ":generateContent")
-                        .queryParam("key", apiKey)
                         .build())
                 .bodyValue(request)
                 .retrieve()
@@ -107,20 +133,32 @@ public class GoogleLLMService implements LLMService {
                             return clientResponse.bodyToMono(String.class)
                                     .flatMap(errorBody -> {
                                         log.error("Google AI Error (response): {}", errorBody);
+                                        // 동시 호출 한도를 줄이는 신호로 사용
+                                        if (clientResponse.statusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS))
+                                            return Mono.error(new LLMRateLimited());
                                         return Mono.error(new RuntimeException("Google AI Error"));
                                     });
                         })
 
                 .bodyToMono(GenerateContentResponse.class);
 
-        GenerateContentResponse responseString = stringMono
-                .timeout(Duration.ofSeconds(240))
-                .block();
+        LLMMetrics.Call call = llmMetrics.start(PROVIDER, model, pricing, llmConfig);
+        GenerateContentResponse responseString;
+        try {
+            responseString = stringMono
+                    .timeout(Duration.ofSeconds(240))
+                    .block();
+            recordUsage(call, responseString);
+            call.success();
+        } catch (RuntimeException e) {
+            call.failure();
+            throw e;
+        }
 
         Content responseContent = responseString.getCandidates().get(0).getContent();
         for (Part part : responseContent.getParts()) {
             if (part.getText() != null) {
-                log.info("API Response:\n{}", part.getText());
+                log.debug("API Response:\n{}", part.getText());
                 return part.getText();
             }
         }
@@ -150,40 +188,56 @@ public class GoogleLLMService implements LLMService {
         ParameterizedTypeReference<ServerSentEvent<GenerateContentResponse>> typeRef =
                 new ParameterizedTypeReference<>() {};
 
-        return webClient.post()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/v1beta/models/" + model + ":streamGenerateContent")
-                        .queryParam("key", apiKey)
-                        .queryParam("alt", "sse")
-                        .build())
-                .bodyValue(request)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, // 4xx, 5xx 에러 처리
-                        clientResponse -> clientResponse.bodyToMono(String.class)
-                                .flatMap(errorBody -> {
-                                    log.error("Google AI API Error ({}): {}", clientResponse.statusCode(), errorBody);
-                                    return Mono.error(new RuntimeException("Google AI API Error: " + clientResponse.statusCode() + " - " + errorBody));
-                                }))
-                .bodyToFlux(typeRef)
-                .doOnNext(sse -> log.trace("Received SSE: id={}, event={}, data={}", sse.id(), sse.event(), sse.data()))
-                .mapNotNull(ServerSentEvent::data)
-                .concatMap(response -> {
-                    Content responseContent = response.getCandidates().get(0).getContent();
-                    List<Part> parts = responseContent.getParts();
-                    // parts가 null로 전달되는 경우도 있음.
-                    if (parts == null) {
-                        // 예시: {"candidates": [{"content": {"role": "model"},"finishReason": "STOP","index": 0}], ...}
-                        return Mono.empty();
-                    }
-                    for (Part part : responseContent.getParts()) {
-                        if (part.getText() != null) {
-                            return Mono.just(part.getText());
+        return Flux.defer(() -> {
+            LLMMetrics.Call call = llmMetrics.start(PROVIDER, model, pricing, config);
+            return webClient.post()
+                    .uri(uriBuilder -> uriBuilder
+                            .path("/v1beta/models/" + model + ":streamGenerateContent")
+                            .queryParam("alt", "sse")
+                            .build())
+                    .bodyValue(request)
+                    .retrieve()
+                    .onStatus(HttpStatusCode::isError, // 4xx, 5xx 에러 처리
+                            clientResponse -> clientResponse.bodyToMono(String.class)
+                                    .flatMap(errorBody -> {
+                                        log.error("Google AI API Error ({}): {}", clientResponse.statusCode(), errorBody);
+                                        if (clientResponse.statusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS))
+                                            return Mono.error(new LLMRateLimited());
+                                        return Mono.error(new RuntimeException("Google AI API Error: " + clientResponse.statusCode() + " - " + errorBody));
+                                    }))
+                    .bodyToFlux(typeRef)
+                    .doOnNext(sse -> log.trace("Received SSE: id={}, event={}, data={}", sse.id(), sse.event(), sse.data()))
+                    .mapNotNull(ServerSentEvent::data)
+                    .doOnNext(response -> recordUsage(call, response))
+                    .concatMap(response -> {
+                        Content responseContent = response.getCandidates().get(0).getContent();
+                        List<Part> parts = responseContent.getParts();
+                        // parts가 null로 전달되는 경우도 있음.
+                        if (parts == null) {
+                            // 예시: {"candidates": [{"content": {"role": "model"},"finishReason": "STOP","index": 0}], ...}
+                            return Mono.empty();
+                        }
+                        for (Part part : responseContent.getParts()) {
+                            if (part.getText() != null) {
+                                return Mono.just(part.getText());
+                            }
                         }
-                    }
-                    return Mono.empty();
-                })
-                .doOnError(error -> log.error("Error processing Google AI stream: ", error))
-                .doOnComplete(() -> log.info("Google AI stream processing completed."));
+                        return Mono.empty();
+                    })
+                    .doOnNext(text -> call.firstToken())
+                    .doOnError(error -> {
+                        log.error("Error processing Google AI stream: ", error);
+                        call.failure();
+                    })
+                    .doOnCancel(() -> {
+                        log.info("Google AI stream cancelled by subscriber.");
+                        call.cancel();
+                    })
+                    .doOnComplete(() -> {
+                        log.info("Google AI stream processing completed.");
+                        call.success();
+                    });
+        });
     }
 
     @Override
@@ -0,0 +1,31 @@
+package kr.easylab.learning_assistant.llm.service;
+
+import kr.easylab.learning_assistant.llm.dto.LLMCallSite;
+
+import java.util.function.Supplier;
+
+// LLMConfig 를 직접 만들지 않는 상위 호출자가 call site 를 지정할 때 사용 (예: 번역 선행 호출)
+public final class LLMCallContext {
+    private static final ThreadLocal<LLMCallSite> CURRENT = new ThreadLocal<>();
+
+    private LLMCallContext() {
+    }
+
+    public static <T> T with(LLMCallSite callSite, Supplier<T> supplier) {
+        LLMCallSite previous = CURRENT.get();
+        CURRENT.set(callSite);
+        try {
+            return supplier.get();
+        } finally {
+            if (previous == null)
+                CURRENT.remove();
+            else
+                CURRENT.set(previous);
+        }
+    }
+
+    public static LLMCallSite currentOr(LLMCallSite defaultCallSite) {
+        LLMCallSite callSite = CURRENT.get();
+        return callSite == null ? defaultCallSite : callSite;
+    }
+}
@@ -0,0 +1,183 @@
+package kr.easylab.learning_assistant.llm.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.easylab.learning_assistant.llm.dto.LLMPriority;
+import kr.easylab.learning_assistant.llm.exception.LLMOverloaded;
+import kr.easylab.learning_assistant.llm.exception.LLMRateLimited;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// LLM 동시 호출 수를 AIMD 로 조절한다.
+// - 빠르게 성공하면 한도를 조금씩(RTT 당 1) 늘리고, 429 를 받으면 backoff_ratio 배로, 느리거나 시간 초과면 완만하게 줄임
+// - 한도가 차면 높은 우선순위부터 들어가며, 선행 호출은 한도의 speculative_share 까지만 쓰고 기다리지 않고 버려짐
+@Component
+@Slf4j
+public class LLMConcurrencyLimiter {
+    private static final double SLOW_BACKOFF_RATIO = 0.9;
+
+    private final double minLimit;
+    private final double maxLimit;
+    private final double backoffRatio;
+    private final double speculativeShare;
+    private final long latencyThresholdNanos;
+    private final long maxWaitNanos;
+
+    private final Map<LLMPriority, Integer> waiting = new EnumMap<>(LLMPriority.class);
+    private final Map<LLMPriority, Counter> rejected = new EnumMap<>(LLMPriority.class);
+    private double limit;
+    private int inFlight;
+
+    public LLMConcurrencyLimiter(
+            @Value("${llm.limiter.initial_limit}") double initialLimit,
+            @Value("${llm.limiter.min_limit}") double minLimit,
+            @Value("${llm.limiter.max_limit}") double maxLimit,
+            @Value("${llm.limiter.backoff_ratio}") double backoffRatio,
+            @Value("${llm.limiter.speculative_share}") double speculativeShare,
+            @Value("${llm.limiter.latency_threshold}") Duration latencyThreshold,
+            @Value("${llm.limiter.max_wait}") Duration maxWait,
+            MeterRegistry meterRegistry) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.speculativeShare = speculativeShare;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.maxWaitNanos = maxWait.toNanos();
+        this.limit = Math.clamp(initialLimit, this.minLimit, maxLimit);
+
+        Gauge.builder("llm.limiter.limit", this, LLMConcurrencyLimiter::getLimit).register(meterRegistry);
+        Gauge.builder("llm.limiter.in_flight", this, LLMConcurrencyLimiter::getInFlight).register(meterRegistry);
+        for (LLMPriority priority : LLMPriority.values()) {
+            waiting.put(priority, 0);
+            String tag = priority.name().toLowerCase();
+            Gauge.builder("llm.limiter.waiting", this, limiter -> limiter.getWaiting(priority))
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+            rejected.put(priority, Counter.builder("llm.limiter.rejected")
+                    .tag("priority", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    // 들어갈 수 있을 때까지 max_wait 동안 기다림. 선행 호출은 바로 들어갈 수 없으면 기다리지 않음
+    public synchronized Permit acquire(LLMPriority priority) {
+        long deadline = System.nanoTime() + maxWaitNanos;
+        waiting.merge(priority, 1, Integer::sum);
+        try {
+            while (!admits(priority)) {
+                long remaining = deadline - System.nanoTime();
+                if (priority == LLMPriority.SPECULATIVE || remaining <= 0)
+                    throw reject(priority);
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject(priority);
+        } finally {
+            waiting.merge(priority, -1, Integer::sum);
+        }
+        inFlight++;
+        return new Permit();
+    }
+
+    // 더 높은 우선순위가 기다리고 있으면 양보
+    private boolean admits(LLMPriority priority) {
+        for (LLMPriority higher : LLMPriority.values()) {
+            if (higher == priority)
+                break;
+            if (waiting.get(higher) > 0)
+                return false;
+        }
+        double available = priority == LLMPriority.SPECULATIVE ? limit * speculativeShare : limit;
+        return inFlight < Math.floor(available);
+    }
+
+    private LLMOverloaded reject(LLMPriority priority) {
+        rejected.get(priority).increment();
+        log.debug("LLM call rejected: priority={}, limit={}, in_flight={}", priority, limit, inFlight);
+        return new LLMOverloaded();
+    }
+
+    private synchronized void release(long latencyNanos, Throwable error) {
+        inFlight--;
+        Throwable cause = error == null ? null : Exceptions.unwrap(error);
+        if (cause instanceof LLMRateLimited)
+            limit = Math.max(minLimit, limit * backoffRatio);
+        else if (cause instanceof TimeoutException || (error == null && latencyNanos > latencyThresholdNanos))
+            limit = Math.max(minLimit, limit * SLOW_BACKOFF_RATIO);
+        else if (error == null && inFlight + 1 >= limit / 2)
+            // 한도의 절반도 쓰지 않을 때는 한도가 적절한지 알 수 없으므로 늘리지 않음
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        notifyAll();
+    }
+
+    // 취소된 호출은 응답 시간을 알 수 없으므로 한도를 바꾸지 않음
+    private synchronized void cancel() {
+        inFlight--;
+        notifyAll();
+    }
+
+    public synchronized double getLimit() {
+        return limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getWaiting(LLMPriority priority) {
+        return waiting.get(priority);
+    }
+
+    public double getRejectedCount(LLMPriority priority) {
+        return rejected.get(priority).count();
+    }
+
+    // 한 번의 호출에 대한 허가. 스트림은 완료, 오류, 취소가 겹칠 수 있어 처음 한 번만 반납
+    public class Permit {
+        private final long startedAt = System.nanoTime();
+        private long latencyNanos = -1;
+        private boolean released;
+
+        // 스트림은 전체 길이가 응답 길이에 따라 달라지므로 첫 토큰까지의 시간으로 판단
+        public synchronized void responded() {
+            if (latencyNanos < 0)
+                latencyNanos = System.nanoTime() - startedAt;
+        }
+
+        public void success() {
+            finish(null);
+        }
+
+        public void failure(Throwable error) {
+            finish(error);
+        }
+
+        public void cancel() {
+            if (markReleased())
+                LLMConcurrencyLimiter.this.cancel();
+        }
+
+        private void finish(Throwable error) {
+            responded();
+            if (markReleased())
+                release(latencyNanos, error);
+        }
+
+        private synchronized boolean markReleased() {
+            if (released)
+                return false;
+            released = true;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package kr.easylab.learning_assistant.llm.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import kr.easylab.learning_assistant.llm.dto.LLMCallSite;
+import kr.easylab.learning_assistant.llm.dto.LLMConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// LLM 호출별 지연 시간, 첫 토큰까지의 시간, 토큰 수와 예상 비용을 provider/model/call site 별로 기록
+@Component
+@RequiredArgsConstructor
+public class LLMMetrics {
+    public record Pricing(double inputPerMillion, double outputPerMillion) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> activeCalls = new ConcurrentHashMap<>();
+    private final Map<LLMCallSite, AtomicInteger> activeCallSites = new ConcurrentHashMap<>();
+
+    public Call start(String provider, String model, Pricing pricing, LLMConfig config) {
+        LLMCallSite callSite = config.getCallSite() == null ? LLMCallSite.UNKNOWN : config.getCallSite();
+        Tags tags = Tags.of(
+                "provider", provider,
+                "model", model,
+                "call_site", callSite.getTag(),
+                "thinking", config.getThinking() == null ? "default" : config.getThinking().name());
+        return new Call(tags, pricing, activeCalls(provider),
+                activeCallSites.computeIfAbsent(callSite, key -> new AtomicInteger()));
+    }
+
+    public int getActiveCalls(String provider) {
+        AtomicInteger active = activeCalls.get(provider);
+        return active == null ? 0 : active.get();
+    }
+
+    public int getActiveCalls(LLMCallSite callSite) {
+        AtomicInteger active = activeCallSites.get(callSite);
+        return active == null ? 0 : active.get();
+    }
+
+    public Map<String, Integer> getActiveCallsByProvider() {
+        Map<String, Integer> active = new TreeMap<>();
+        activeCalls.forEach((provider, count) -> active.put(provider, count.get()));
+        return active;
+    }
+
+    private AtomicInteger activeCalls(String provider) {
+        return activeCalls.computeIfAbsent(provider, key -> {
+            AtomicInteger active = new AtomicInteger();
+            Gauge.builder("llm.calls.active", active, AtomicInteger::get)
+                    .tag("provider", key)
+                    .register(meterRegistry);
+            return active;
+        });
+    }
+
+    // 한 번의 호출. 스트림은 취소와 오류가 겹칠 수 있어 처음 한 번만 종료를 기록
+    public class Call {
+        private final Tags tags;
+        private final Pricing pricing;
+        private final AtomicInteger active;
+        private final AtomicInteger activeCallSite;
+        private final long startedAt = System.nanoTime();
+        private final AtomicBoolean firstToken = new AtomicBoolean(false);
+        private final AtomicBoolean finished = new AtomicBoolean(false);
+
+        private long inputTokens;
+        private long outputTokens;
+        private long thinkingTokens;
+
+        private Call(Tags tags, Pricing pricing, AtomicInteger active, AtomicInteger activeCallSite) {
+            this.tags = tags;
+            this.pricing = pricing;
+            this.active = active;
+            this.activeCallSite = activeCallSite;
+            active.incrementAndGet();
+            activeCallSite.incrementAndGet();
+        }
+
+        public void firstToken() {
+            if (firstToken.compareAndSet(false, true))
+                Timer.builder("llm.stream.first_token")
+                        .tags(tags)
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        // 스트림에서는 누적 값이 여러 번 전달되므로 마지막 값으로 덮어씀
+        public synchronized void usage(Long input, Long output, Long thinking) {
+            if (input != null)
+                inputTokens = input;
+            if (output != null)
+                outputTokens = output;
+            if (thinking != null)
+                thinkingTokens = thinking;
+        }
+
+        public void success() {
+            finish("success");
+        }
+
+        public void failure() {
+            finish("error");
+        }
+
+        public void cancel() {
+            finish("cancelled");
+        }
+
+        private synchronized void finish(String outcome) {
+            if (!finished.compareAndSet(false, true))
+                return;
+            active.decrementAndGet();
+            activeCallSite.decrementAndGet();
+
+            Timer.builder("llm.call.duration")
+                    .tags(tags)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+            countTokens("input", inputTokens);
+            countTokens("output", outputTokens);
+            countTokens("thinking", thinkingTokens);
+
+            // thinking 토큰은 출력 토큰 단가로 과금됨
+            double cost = (inputTokens * pricing.inputPerMillion()
+                    + (outputTokens + thinkingTokens) * pricing.outputPerMillion()) / 1_000_000d;
+            if (cost > 0)
+                Counter.builder("llm.cost")
+                        .baseUnit("usd")
+                        .tags(tags)
+                        .register(meterRegistry)
+                        .increment(cost);
+        }
+
+        private void countTokens(String type, long count) {
+            if (count > 0)
+                Counter.builder("llm.tokens")
+                        .tags(tags)
+                        .tag("type", type)
+                        .register(meterRegistry)
+                        .increment(count);
+        }
+    }
+}
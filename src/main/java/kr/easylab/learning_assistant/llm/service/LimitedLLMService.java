@@ -0,0 +1,69 @@
+package kr.easylab.learning_assistant.llm.service;
+
+import kr.easylab.learning_assistant.llm.dto.LLMCallSite;
+import kr.easylab.learning_assistant.llm.dto.LLMConfig;
+import kr.easylab.learning_assistant.llm.dto.LLMMessage;
+import kr.easylab.learning_assistant.llm.dto.LLMPriority;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+// 제공자 구현 앞에서 LLMConcurrencyLimiter 로 동시 호출 수와 우선순위를 제어
+@Service
+@Primary
+public class LimitedLLMService implements LLMService {
+    private final LLMService llmService;
+    private final LLMConcurrencyLimiter limiter;
+
+    public LimitedLLMService(@Qualifier("llm-service-base") LLMService llmService, LLMConcurrencyLimiter limiter) {
+        this.llmService = llmService;
+        this.limiter = limiter;
+    }
+
+    private LLMPriority priority(LLMConfig config) {
+        LLMCallSite callSite = config.getCallSite() == null ? LLMCallSite.UNKNOWN : config.getCallSite();
+        return callSite.getPriority();
+    }
+
+    private <T> T limit(LLMConfig config, Supplier<T> call) {
+        LLMConcurrencyLimiter.Permit permit = limiter.acquire(priority(config));
+        try {
+            T result = call.get();
+            permit.success();
+            return result;
+        } catch (RuntimeException e) {
+            permit.failure(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String generate(List<LLMMessage> messages, LLMConfig config) {
+        return limit(config, () -> llmService.generate(messages, config));
+    }
+
+    // 허가를 기다리는 동안 구독한 스레드를 막지 않도록 boundedElastic 에서 대기
+    // 기다리는 중에 구독이 취소되면 뒤늦게 받은 허가는 버려지므로 바로 반납
+    @Override
+    public Flux<String> generateStream(List<LLMMessage> messages, LLMConfig config) {
+        return Mono.fromCallable(() -> limiter.acquire(priority(config)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnDiscard(LLMConcurrencyLimiter.Permit.class, LLMConcurrencyLimiter.Permit::cancel)
+                .flatMapMany(permit -> llmService.generateStream(messages, config)
+                        .doOnNext(text -> permit.responded())
+                        .doOnError(permit::failure)
+                        .doOnComplete(permit::success)
+                        .doOnCancel(permit::cancel));
+    }
+
+    @Override
+    public <T> T generate(List<LLMMessage> messages, Class<T> clazz, LLMConfig config) {
+        return limit(config, () -> llmService.generate(messages, clazz, config));
+    }
+}
@@ -2,17 +2,33 @@ package kr.easylab.learning_assistant.question.controller;
 
 import jakarta.validation.Valid;
 import kr.easylab.learning_assistant.admin.dto.OkResponse;
+import kr.easylab.learning_assistant.common.cache.SerializedResponseCache;
 import kr.easylab.learning_assistant.common.dto.ListResponse;
 import kr.easylab.learning_assistant.question.dto.QuestionBankCreationRequest;
 import kr.easylab.learning_assistant.question.dto.QuestionBankCreationResponse;
 import kr.easylab.learning_assistant.question.dto.QuestionBankResponse;
+import kr.easylab.learning_assistant.question.dto.QuestionBankRestoreResponse;
 import kr.easylab.learning_assistant.question.dto.QuestionCreationRequest;
+import kr.easylab.learning_assistant.question.dto.QuestionImportResponse;
 import kr.easylab.learning_assistant.question.entity.QuestionBank;
+import kr.easylab.learning_assistant.question.importer.QuestionImportFormat;
 import kr.easylab.learning_assistant.question.service.QuestionBankService;
+import kr.easylab.learning_assistant.question.service.QuestionBankSnapshotService;
+import kr.easylab.learning_assistant.question.service.QuestionImportService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -21,15 +37,20 @@ import java.util.List;
 @RequiredArgsConstructor
 public class QuestionBankController {
     private final QuestionBankService questionBankService;
+    private final SerializedResponseCache serializedResponseCache;
+    private final QuestionImportService questionImportService;
+    private final QuestionBankSnapshotService questionBankSnapshotService;
 
+    // 목록은 캐시에서 반환하며, 변경이 없으면 If-None-Match 에 대해 304 로 응답
     @GetMapping()
-    public ListResponse<QuestionBankResponse> get() {
+    public ResponseEntity<byte[]> get(WebRequest webRequest) {
         List<QuestionBankResponse> questionBankResponses = questionBankService.getQuestionBanks();
 
-        return ListResponse.<QuestionBankResponse>builder()
-                .total((long) questionBankResponses.size())
-                .data(questionBankResponses)
-                .build();
+        return serializedResponseCache.respond(webRequest, "question-banks", etag(questionBankResponses), CacheControl.noCache(),
+                () -> ListResponse.<QuestionBankResponse>builder()
+                        .total((long) questionBankResponses.size())
+                        .data(questionBankResponses)
+                        .build());
     }
 
     @PostMapping()
@@ -45,4 +66,45 @@ public class QuestionBankController {
         questionBankService.createQuestion(questionBankId, request);
         return new OkResponse();
     }
+
+    // 요청 본문을 버퍼링하지 않고 스트림으로 읽어 대량의 문제를 한 번에 등록
+    @PostMapping(value = "{questionBankId}/questions/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public QuestionImportResponse importJsonLines(@PathVariable Long questionBankId, InputStream body) {
+        return questionImportService.importQuestions(questionBankId, QuestionImportFormat.NDJSON, body);
+    }
+
+    @PostMapping(value = "{questionBankId}/questions/import", consumes = "text/csv")
+    @PreAuthorize("hasRole('ADMIN')")
+    public QuestionImportResponse importCsv(@PathVariable Long questionBankId, InputStream body) {
+        return questionImportService.importQuestions(questionBankId, QuestionImportFormat.CSV, body);
+    }
+
+    // 다른 환경으로 옮길 수 있도록 문제 은행 전체를 gzip 압축된 JSON Lines 스냅샷으로 내려받음
+    @GetMapping("{questionBankId}/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable Long questionBankId) {
+        questionBankService.getQuestionBank(questionBankId);
+
+        StreamingResponseBody body = output -> questionBankSnapshotService.exportQuestionBank(questionBankId, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"question-bank-" + questionBankId + ".ndjson.gz\"")
+                .body(body);
+    }
+
+    @PostMapping(value = "restore", consumes = "application/gzip")
+    @PreAuthorize("hasRole('ADMIN')")
+    public QuestionBankRestoreResponse restore(InputStream body) throws IOException {
+        return questionBankSnapshotService.restoreQuestionBank(body);
+    }
+
+    private String etag(List<QuestionBankResponse> questionBankResponses) {
+        StringBuilder content = new StringBuilder();
+        for (QuestionBankResponse response : questionBankResponses)
+            content.append(response.getQuestionBankId()).append('\0')
+                    .append(response.getTitle()).append('\0')
+                    .append(response.getQuestions()).append('\n');
+        return "\"" + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
 }
@@ -0,0 +1,15 @@
+package kr.easylab.learning_assistant.question.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class QuestionBankRestoreResponse {
+    private final Long questionBankId;
+    private final Long imported;
+    private final Long failed;
+    private final List<QuestionImportError> errors;
+}
@@ -0,0 +1,21 @@
+package kr.easylab.learning_assistant.question.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 스냅샷의 첫 줄. 이후 줄은 QuestionCreationRequest 형식의 JSON Lines
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuestionBankSnapshotHeader {
+    public static final String FORMAT = "learning-assistant/question-bank";
+    public static final int VERSION = 1;
+
+    private String format;
+    private Integer version;
+    private String title;
+    private Long questions;
+}
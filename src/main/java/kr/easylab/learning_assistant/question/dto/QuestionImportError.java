@@ -0,0 +1,12 @@
+package kr.easylab.learning_assistant.question.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class QuestionImportError {
+    // 업로드 파일 기준 레코드가 시작되는 줄 번호 (1부터 시작)
+    private final Long line;
+    private final String message;
+}
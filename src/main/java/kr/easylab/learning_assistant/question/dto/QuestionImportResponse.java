@@ -0,0 +1,16 @@
+package kr.easylab.learning_assistant.question.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class QuestionImportResponse {
+    private final Long imported;
+    private final Long failed;
+
+    // 최대 question.import.max_errors 개까지만 포함
+    private final List<QuestionImportError> errors;
+}
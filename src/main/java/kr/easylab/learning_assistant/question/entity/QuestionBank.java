@@ -2,6 +2,7 @@ package kr.easylab.learning_assistant.question.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
@@ -16,4 +17,10 @@ public class QuestionBank {
 
     @Column(nullable = false)
     private String title;
+
+    // 목록 조회 시 문제 테이블을 집계하지 않도록 문제 수를 함께 저장
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long questionCount = 0L;
 }
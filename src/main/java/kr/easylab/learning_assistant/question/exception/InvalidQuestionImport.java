@@ -0,0 +1,12 @@
+package kr.easylab.learning_assistant.question.exception;
+
+import kr.easylab.learning_assistant.common.annotation.HTTPResponseAnnotation;
+import kr.easylab.learning_assistant.common.exception.KnownException;
+import org.springframework.http.HttpStatus;
+
+@HTTPResponseAnnotation(status = HttpStatus.BAD_REQUEST, errorCode = "INVALID_QUESTION_IMPORT")
+public class InvalidQuestionImport extends KnownException {
+    public InvalidQuestionImport(String message) {
+        super("문제 가져오기 형식이 올바르지 않습니다: " + message);
+    }
+}
@@ -0,0 +1,12 @@
+package kr.easylab.learning_assistant.question.exception;
+
+import kr.easylab.learning_assistant.common.annotation.HTTPResponseAnnotation;
+import kr.easylab.learning_assistant.common.exception.KnownException;
+import org.springframework.http.HttpStatus;
+
+@HTTPResponseAnnotation(status = HttpStatus.BAD_REQUEST, errorCode = "QUESTION_IMPORT_INTERRUPTED")
+public class QuestionImportInterrupted extends KnownException {
+    public QuestionImportInterrupted(long imported) {
+        super("업로드를 읽는 도중 중단되었습니다. 이미 저장된 문제 수: " + imported);
+    }
+}
@@ -0,0 +1,149 @@
+package kr.easylab.learning_assistant.question.importer;
+
+import kr.easylab.learning_assistant.question.dto.QuestionCreationRequest;
+import kr.easylab.learning_assistant.question.exception.InvalidQuestionImport;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// RFC 4180 형식의 CSV 를 한 레코드씩 읽음
+// 첫 줄은 헤더이며 correct_answer, incorrect_answer 열은 여러 번 나올 수 있음
+// ex) title,explanation,correct_answer,incorrect_answer,incorrect_answer,incorrect_answer
+public class CsvQuestionRecordReader implements QuestionRecordReader {
+    private enum Column {
+        TITLE,
+        EXPLANATION,
+        CORRECT_ANSWER,
+        INCORRECT_ANSWER
+    }
+
+    private final BufferedReader reader;
+    private List<Column> columns;
+    private long line = 1;
+    private long recordLine;
+    private boolean unterminated = false;
+
+    public CsvQuestionRecordReader(Reader reader) {
+        this.reader = new BufferedReader(reader);
+    }
+
+    @Override
+    public QuestionRecord next() throws IOException {
+        if (columns == null)
+            columns = readHeader();
+
+        List<String> fields;
+        do {
+            fields = readFields();
+            if (fields == null)
+                return null;
+        } while (fields.size() == 1 && fields.getFirst().isBlank() && !unterminated);
+
+        if (unterminated)
+            return QuestionRecord.failed(recordLine, "따옴표가 닫히지 않았습니다.");
+
+        if (fields.size() != columns.size())
+            return QuestionRecord.failed(recordLine, "열 개수가 헤더와 다릅니다. (" + fields.size() + " / " + columns.size() + ")");
+
+        String title = null;
+        String explanation = null;
+        List<String> correctAnswers = new ArrayList<>();
+        List<String> incorrectAnswers = new ArrayList<>();
+        for (int i = 0; i < fields.size(); i++) {
+            String value = fields.get(i);
+            switch (columns.get(i)) {
+                case TITLE -> title = value;
+                case EXPLANATION -> explanation = value.isEmpty() ? null : value;
+                // 답변 수가 문제마다 다를 수 있으므로 빈 칸은 무시
+                case CORRECT_ANSWER -> {
+                    if (!value.isEmpty())
+                        correctAnswers.add(value);
+                }
+                case INCORRECT_ANSWER -> {
+                    if (!value.isEmpty())
+                        incorrectAnswers.add(value);
+                }
+            }
+        }
+
+        return QuestionRecord.of(recordLine, QuestionCreationRequest.builder()
+                .title(title)
+                .explanation(explanation)
+                .correctAnswers(correctAnswers.toArray(String[]::new))
+                .incorrectAnswers(incorrectAnswers.toArray(String[]::new))
+                .build());
+    }
+
+    private List<Column> readHeader() throws IOException {
+        List<String> header = readFields();
+        if (header == null)
+            throw new InvalidQuestionImport("CSV 헤더가 없습니다.");
+
+        List<Column> result = new ArrayList<>();
+        for (String name : header) {
+            try {
+                result.add(Column.valueOf(name.strip().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidQuestionImport("알 수 없는 CSV 열입니다. (" + name + ")");
+            }
+        }
+        if (!result.contains(Column.TITLE))
+            throw new InvalidQuestionImport("CSV 헤더에 title 열이 없습니다.");
+        return result;
+    }
+
+    private List<String> readFields() throws IOException {
+        int c = reader.read();
+        if (c == -1)
+            return null;
+
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                // 파일 끝까지 따옴표가 닫히지 않으면 남은 내용 전체를 실패한 레코드 하나로 처리
+                if (c == -1) {
+                    unterminated = true;
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n')
+                        line++;
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n')
+                        reader.reset();
+                }
+                if (c != -1)
+                    line++;
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package kr.easylab.learning_assistant.question.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.easylab.learning_assistant.question.dto.QuestionCreationRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+// 한 줄에 QuestionCreationRequest 하나씩 담긴 JSON Lines 를 읽음
+// 줄 단위로 파싱하므로 잘못된 줄이 있어도 다음 줄부터 계속 읽을 수 있음
+public class JsonLinesQuestionRecordReader implements QuestionRecordReader {
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long line = 0;
+
+    public JsonLinesQuestionRecordReader(Reader reader, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(reader);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public QuestionRecord next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null)
+                return null;
+            line++;
+        } while (text.isBlank());
+
+        try {
+            return QuestionRecord.of(line, objectMapper.readValue(text, QuestionCreationRequest.class));
+        } catch (JsonProcessingException e) {
+            return QuestionRecord.failed(line, "JSON 형식 오류: " + e.getOriginalMessage());
+        }
+    }
+}
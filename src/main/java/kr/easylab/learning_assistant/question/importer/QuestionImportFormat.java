@@ -0,0 +1,17 @@
+package kr.easylab.learning_assistant.question.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Reader;
+
+public enum QuestionImportFormat {
+    NDJSON,
+    CSV;
+
+    public QuestionRecordReader open(Reader reader, ObjectMapper objectMapper) {
+        return switch (this) {
+            case NDJSON -> new JsonLinesQuestionRecordReader(reader, objectMapper);
+            case CSV -> new CsvQuestionRecordReader(reader);
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package kr.easylab.learning_assistant.question.importer;
+
+import kr.easylab.learning_assistant.question.dto.QuestionCreationRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class QuestionRecord {
+    private final Long line;
+
+    // 파싱에 실패한 경우 null 이며 error 에 사유가 담김
+    private final QuestionCreationRequest request;
+    private final String error;
+
+    public static QuestionRecord of(Long line, QuestionCreationRequest request) {
+        return new QuestionRecord(line, request, null);
+    }
+
+    public static QuestionRecord failed(Long line, String error) {
+        return new QuestionRecord(line, null, error);
+    }
+}
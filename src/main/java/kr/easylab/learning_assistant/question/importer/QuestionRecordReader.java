@@ -0,0 +1,8 @@
+package kr.easylab.learning_assistant.question.importer;
+
+import java.io.IOException;
+
+public interface QuestionRecordReader {
+    // 더 이상 레코드가 없으면 null
+    QuestionRecord next() throws IOException;
+}
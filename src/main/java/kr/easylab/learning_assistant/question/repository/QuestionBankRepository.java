@@ -2,6 +2,7 @@ package kr.easylab.learning_assistant.question.repository;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
 import kr.easylab.learning_assistant.question.dto.QuestionBankResponse;
 import kr.easylab.learning_assistant.question.entity.Question;
 import kr.easylab.learning_assistant.question.entity.QuestionBank;
@@ -20,8 +21,9 @@ public class QuestionBankRepository {
         return em.find(QuestionBank.class, question_id);
     }
 
+    // 엔티티 대신 컬럼을 조회하여, 영속성 컨텍스트에 남은 이전 문제 수가 아닌 DB 값을 반환
     public List<QuestionBankResponse> findAllWithQuestionCount() {
-        List<Tuple> resultList = em.createQuery("SELECT qb.id as id, qb.title as title, count(q) as questionCount FROM QuestionBank qb LEFT JOIN Question q ON qb = q.questionBank GROUP BY qb.id", Tuple.class).getResultList();
+        List<Tuple> resultList = em.createQuery("SELECT qb.id as id, qb.title as title, qb.questionCount as questionCount FROM QuestionBank qb ORDER BY qb.id", Tuple.class).getResultList();
 
         return resultList.stream().map(tuple -> QuestionBankResponse.builder()
                 .questionBankId(tuple.get("id", Long.class))
@@ -31,12 +33,52 @@ public class QuestionBankRepository {
         ).collect(Collectors.toList());
     }
 
+    // 동시에 문제가 추가되어도 값이 유실되지 않도록 DB 에서 원자적으로 증가
+    public void incrementQuestionCount(Long questionBankId, long delta) {
+        em.createQuery("UPDATE QuestionBank qb SET qb.questionCount = qb.questionCount + :delta WHERE qb.id = :questionBankId")
+                .setParameter("delta", delta)
+                .setParameter("questionBankId", questionBankId)
+                .executeUpdate();
+    }
+
     public List<Question> findAllQuestions(Long questionBankId) {
         return em.createQuery("SELECT q FROM Question q WHERE q.questionBank.id = :questionBankId", Question.class)
                 .setParameter("questionBankId", questionBankId)
                 .getResultList();
     }
 
+    public List<Long> findAllQuestionIds(Long questionBankId) {
+        return em.createQuery("SELECT q.id FROM Question q WHERE q.questionBank.id = :questionBankId", Long.class)
+                .setParameter("questionBankId", questionBankId)
+                .getResultList();
+    }
+
+    public List<Question> findQuestionsByIds(List<Long> questionIds) {
+        return em.createQuery("SELECT q FROM Question q WHERE q.id IN :questionIds", Question.class)
+                .setParameter("questionIds", questionIds)
+                .getResultList();
+    }
+
+    public Long countQuestions(Long questionBankId) {
+        return em.createQuery("SELECT count(q) FROM Question q WHERE q.questionBank.id = :questionBankId", Long.class)
+                .setParameter("questionBankId", questionBankId)
+                .getSingleResult();
+    }
+
+    // afterId 가 null 이면 처음부터 조회
+    public List<Question> findQuestionsAfter(Long questionBankId, Long afterId, int limit) {
+        String query = afterId == null
+                ? "SELECT q FROM Question q WHERE q.questionBank.id = :questionBankId ORDER BY q.id"
+                : "SELECT q FROM Question q WHERE q.questionBank.id = :questionBankId AND q.id > :afterId ORDER BY q.id";
+
+        TypedQuery<Question> typedQuery = em.createQuery(query, Question.class)
+                .setParameter("questionBankId", questionBankId)
+                .setMaxResults(limit);
+        if (afterId != null)
+            typedQuery.setParameter("afterId", afterId);
+        return typedQuery.getResultList();
+    }
+
     public void save(QuestionBank question){
         em.persist(question);
     }
@@ -14,6 +14,7 @@ public interface QuestionBankService {
     List<QuestionBankResponse> getQuestionBanks();
 
     Long createQuestion(Long questionBankId, QuestionCreationRequest request);
+    List<Long> createQuestions(Long questionBankId, List<QuestionCreationRequest> requests);
     List<Question> getRandomQuestions(
             Long questionBankId,
             Long count
@@ -8,20 +8,34 @@ import kr.easylab.learning_assistant.question.entity.QuestionBank;
 import kr.easylab.learning_assistant.question.exception.NotFoundQuestionBank;
 import kr.easylab.learning_assistant.question.repository.QuestionBankRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class QuestionBankServiceImpl implements QuestionBankService {
+    private static final Object PENDING_QUESTION_COUNTS = new Object();
+
     private final QuestionBankRepository questionBankRepository;
+    private final CacheManager cacheManager;
 
     @Override
+    @CacheEvict(value = "question-banks", allEntries = true)
     public Long createQuestionBank(String title) {
         if (title == null) {
             throw new IllegalArgumentException("title is null");
@@ -30,6 +44,7 @@ public class QuestionBankServiceImpl implements QuestionBankService {
                 .title(title)
                 .build();
         questionBankRepository.save(questionBank);
+        evictQuestionBanksAfterCompletion();
         return questionBank.getId();
     }
 
@@ -43,51 +58,117 @@ public class QuestionBankServiceImpl implements QuestionBankService {
     }
 
     @Override
+    @Cacheable(value = "question-banks", sync = true)
     public List<QuestionBankResponse> getQuestionBanks() {
         return questionBankRepository.findAllWithQuestionCount();
     }
 
     @Override
+    @CacheEvict(value = "question-banks", allEntries = true)
     public Long createQuestion(Long questionBankId, QuestionCreationRequest request) {
+        return createQuestions(questionBankId, List.of(request)).getFirst();
+    }
+
+    @Override
+    @CacheEvict(value = "question-banks", allEntries = true)
+    public List<Long> createQuestions(Long questionBankId, List<QuestionCreationRequest> requests) {
         QuestionBank questionBank = questionBankRepository.findOne(questionBankId);
         if (questionBank == null) {
             throw new NotFoundQuestionBank();
         }
 
-        List<Answer> answerList = new ArrayList<>();
-
-        for (String text: request.getCorrectAnswers())
-            answerList.add(Answer.builder()
-                    .text(text)
-                    .correct(true)
-                    .build()
-            );
-        for (String text: request.getIncorrectAnswers())
-            answerList.add(Answer.builder()
-                    .text(text)
-                    .correct(false)
-                    .build()
-            );
-
-        Question question = Question.builder()
-                .questionBank(questionBank)
-                .answer(answerList)
-                .title(request.getTitle())
-                .explanation(request.getExplanation())
-                .build();
+        List<Long> questionIds = new ArrayList<>(requests.size());
+        for (QuestionCreationRequest request : requests) {
+            List<Answer> answerList = new ArrayList<>();
+
+            for (String text: request.getCorrectAnswers())
+                answerList.add(Answer.builder()
+                        .text(text)
+                        .correct(true)
+                        .build()
+                );
+            for (String text: request.getIncorrectAnswers())
+                answerList.add(Answer.builder()
+                        .text(text)
+                        .correct(false)
+                        .build()
+                );
+
+            Question question = Question.builder()
+                    .questionBank(questionBank)
+                    .answer(answerList)
+                    .title(request.getTitle())
+                    .explanation(request.getExplanation())
+                    .build();
+
+            questionBankRepository.save(question);
+            questionIds.add(question.getId());
+        }
+
+        incrementQuestionCount(questionBankId, requests.size());
+        return questionIds;
+    }
+
+    // 문제 수 갱신을 커밋 직전에 문제 은행별로 한 번만 수행하여 INSERT 배치가 끊기지 않고, 행 잠금도 짧게 유지
+    private void incrementQuestionCount(Long questionBankId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            questionBankRepository.incrementQuestionCount(questionBankId, delta);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<Long, Long> pending = (Map<Long, Long>) TransactionSynchronizationManager.getResource(PENDING_QUESTION_COUNTS);
+        if (pending == null) {
+            Map<Long, Long> counts = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(PENDING_QUESTION_COUNTS, counts);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    counts.forEach(questionBankRepository::incrementQuestionCount);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResource(PENDING_QUESTION_COUNTS);
+                }
+            });
+            pending = counts;
+            evictQuestionBanksAfterCompletion();
+        }
+        pending.merge(questionBankId, delta, Long::sum);
+    }
+
+    // 커밋 전에 다른 요청이 이전 목록을 다시 캐시했을 수 있으므로 트랜잭션이 끝난 뒤 한 번 더 비움
+    private void evictQuestionBanksAfterCompletion() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive())
+            return;
 
-        questionBankRepository.save(question);
-        return question.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                Cache cache = cacheManager.getCache("question-banks");
+                if (cache != null)
+                    cache.clear();
+            }
+        });
     }
 
     @Override
     public List<Question> getRandomQuestions(Long questionBankId, Long count) {
-        List<Question> questions = questionBankRepository.findAllQuestions(questionBankId);
-        if (!questions.isEmpty()) {
-            Collections.shuffle(questions);
-            return questions.stream()
+        // 문제 전체가 아닌 id 만 조회하여 섞은 뒤, 선택된 문제만 로딩
+        List<Long> questionIds = new ArrayList<>(questionBankRepository.findAllQuestionIds(questionBankId));
+        if (!questionIds.isEmpty()) {
+            Collections.shuffle(questionIds);
+            List<Long> selectedIds = questionIds.stream()
                     .limit(count)
                     .toList();
+
+            Map<Long, Question> questions = questionBankRepository.findQuestionsByIds(selectedIds)
+                    .stream()
+                    .collect(Collectors.toMap(Question::getId, Function.identity()));
+            return selectedIds.stream()
+                    .map(questions::get)
+                    .toList();
         }
         return List.of();
     }
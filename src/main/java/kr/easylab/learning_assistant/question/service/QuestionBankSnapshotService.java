@@ -0,0 +1,13 @@
+package kr.easylab.learning_assistant.question.service;
+
+import kr.easylab.learning_assistant.question.dto.QuestionBankRestoreResponse;
+import kr.easylab.learning_assistant.question.exception.NotFoundQuestionBank;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface QuestionBankSnapshotService {
+    void exportQuestionBank(Long questionBankId, OutputStream output) throws NotFoundQuestionBank, IOException;
+    QuestionBankRestoreResponse restoreQuestionBank(InputStream input) throws IOException;
+}
@@ -0,0 +1,138 @@
+package kr.easylab.learning_assistant.question.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.easylab.learning_assistant.question.dto.QuestionBankRestoreResponse;
+import kr.easylab.learning_assistant.question.dto.QuestionBankSnapshotHeader;
+import kr.easylab.learning_assistant.question.dto.QuestionCreationRequest;
+import kr.easylab.learning_assistant.question.dto.QuestionImportResponse;
+import kr.easylab.learning_assistant.question.entity.Answer;
+import kr.easylab.learning_assistant.question.entity.Question;
+import kr.easylab.learning_assistant.question.entity.QuestionBank;
+import kr.easylab.learning_assistant.question.exception.InvalidQuestionImport;
+import kr.easylab.learning_assistant.question.importer.QuestionImportFormat;
+import kr.easylab.learning_assistant.question.repository.QuestionBankRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@RequiredArgsConstructor
+public class QuestionBankSnapshotServiceImpl implements QuestionBankSnapshotService {
+    private static final int EXPORT_PAGE_SIZE = 500;
+    private static final int MAX_HEADER_BYTES = 64 * 1024;
+
+    private final QuestionBankService questionBankService;
+    private final QuestionImportService questionImportService;
+    private final QuestionBankRepository questionBankRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void exportQuestionBank(Long questionBankId, OutputStream output) throws IOException {
+        QuestionBankSnapshotHeader header = transactionTemplate.execute(status -> {
+            QuestionBank questionBank = questionBankService.getQuestionBank(questionBankId);
+            return QuestionBankSnapshotHeader.builder()
+                    .format(QuestionBankSnapshotHeader.FORMAT)
+                    .version(QuestionBankSnapshotHeader.VERSION)
+                    .title(questionBank.getTitle())
+                    .questions(questionBankRepository.countQuestions(questionBankId))
+                    .build();
+        });
+
+        // gzip 으로 압축한 JSON Lines. 문제는 id 순으로 페이지 단위로 읽어 메모리 사용량을 일정하게 유지
+        GZIPOutputStream gzip = new GZIPOutputStream(output, 64 * 1024);
+        writeLine(gzip, header);
+
+        // 느린 클라이언트로 쓰는 동안 트랜잭션을 잡고 있지 않도록, 한 페이지를 읽어 변환한 뒤 트랜잭션 밖에서 씀
+        Long afterId = null;
+        while (true) {
+            Long cursor = afterId;
+            ExportPage page = transactionTemplate.execute(status -> {
+                List<Question> questions = questionBankRepository.findQuestionsAfter(questionBankId, cursor, EXPORT_PAGE_SIZE);
+                return new ExportPage(
+                        questions.stream().map(this::toRecord).toList(),
+                        questions.isEmpty() ? null : questions.getLast().getId()
+                );
+            });
+
+            for (QuestionCreationRequest record : page.records())
+                writeLine(gzip, record);
+            if (page.records().size() < EXPORT_PAGE_SIZE)
+                break;
+            afterId = page.lastId();
+        }
+        gzip.finish();
+    }
+
+    @Override
+    public QuestionBankRestoreResponse restoreQuestionBank(InputStream input) throws IOException {
+        InputStream gzip = new GZIPInputStream(input, 64 * 1024);
+
+        QuestionBankSnapshotHeader header;
+        try {
+            header = objectMapper.readValue(readHeaderLine(gzip), QuestionBankSnapshotHeader.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidQuestionImport("스냅샷 헤더를 읽을 수 없습니다.");
+        }
+        if (!QuestionBankSnapshotHeader.FORMAT.equals(header.getFormat()))
+            throw new InvalidQuestionImport("스냅샷 형식이 아닙니다. (" + header.getFormat() + ")");
+        if (header.getVersion() == null || header.getVersion() > QuestionBankSnapshotHeader.VERSION)
+            throw new InvalidQuestionImport("지원하지 않는 스냅샷 버전입니다. (" + header.getVersion() + ")");
+
+        // 헤더 이후는 가져오기 형식과 같으므로 그대로 넘겨 배치 저장
+        Long questionBankId = questionBankService.createQuestionBank(header.getTitle());
+        QuestionImportResponse result = questionImportService.importQuestions(questionBankId, QuestionImportFormat.NDJSON, gzip);
+
+        return QuestionBankRestoreResponse.builder()
+                .questionBankId(questionBankId)
+                .imported(result.getImported())
+                .failed(result.getFailed())
+                .errors(result.getErrors())
+                .build();
+    }
+
+    private record ExportPage(List<QuestionCreationRequest> records, Long lastId) {
+    }
+
+    private QuestionCreationRequest toRecord(Question question) {
+        return QuestionCreationRequest.builder()
+                .title(question.getTitle())
+                .correctAnswers(question.getAnswer().stream()
+                        .filter(Answer::getCorrect)
+                        .map(Answer::getText)
+                        .toArray(String[]::new))
+                .incorrectAnswers(question.getAnswer().stream()
+                        .filter(answer -> !answer.getCorrect())
+                        .map(Answer::getText)
+                        .toArray(String[]::new))
+                .explanation(question.getExplanation())
+                .build();
+    }
+
+    private void writeLine(OutputStream output, Object value) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(value));
+        output.write('\n');
+    }
+
+    // 뒤따르는 레코드를 함께 읽어버리지 않도록 첫 줄만 바이트 단위로 읽음
+    private String readHeaderLine(InputStream input) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = input.read()) != -1 && b != '\n') {
+            if (line.size() >= MAX_HEADER_BYTES)
+                throw new InvalidQuestionImport("스냅샷 헤더가 너무 깁니다.");
+            line.write(b);
+        }
+        return line.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,11 @@
+package kr.easylab.learning_assistant.question.service;
+
+import kr.easylab.learning_assistant.question.dto.QuestionImportResponse;
+import kr.easylab.learning_assistant.question.exception.NotFoundQuestionBank;
+import kr.easylab.learning_assistant.question.importer.QuestionImportFormat;
+
+import java.io.InputStream;
+
+public interface QuestionImportService {
+    QuestionImportResponse importQuestions(Long questionBankId, QuestionImportFormat format, InputStream input) throws NotFoundQuestionBank;
+}
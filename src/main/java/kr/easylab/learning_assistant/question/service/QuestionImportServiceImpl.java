@@ -0,0 +1,122 @@
+package kr.easylab.learning_assistant.question.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import kr.easylab.learning_assistant.question.dto.QuestionImportError;
+import kr.easylab.learning_assistant.question.dto.QuestionImportResponse;
+import kr.easylab.learning_assistant.question.exception.QuestionImportInterrupted;
+import kr.easylab.learning_assistant.question.importer.QuestionImportFormat;
+import kr.easylab.learning_assistant.question.importer.QuestionRecord;
+import kr.easylab.learning_assistant.question.importer.QuestionRecordReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuestionImportServiceImpl implements QuestionImportService {
+    private final QuestionBankService questionBankService;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    @Value("${question.import.batch_size}")
+    private int batchSize;
+
+    @Value("${question.import.max_errors}")
+    private int maxErrors;
+
+    @Override
+    public QuestionImportResponse importQuestions(Long questionBankId, QuestionImportFormat format, InputStream input) {
+        questionBankService.getQuestionBank(questionBankId);
+
+        // 업로드 전체를 메모리에 올리지 않고, batch_size 만큼 읽을 때마다 한 트랜잭션으로 저장
+        QuestionRecordReader reader = format.open(new InputStreamReader(input, StandardCharsets.UTF_8), objectMapper);
+        Result result = new Result();
+        List<QuestionRecord> batch = new ArrayList<>(batchSize);
+        try {
+            QuestionRecord record;
+            while ((record = reader.next()) != null) {
+                String error = record.getError() != null ? record.getError() : validate(record);
+                if (error != null) {
+                    result.fail(record.getLine(), error);
+                    continue;
+                }
+
+                batch.add(record);
+                if (batch.size() >= batchSize) {
+                    save(questionBankId, batch, result);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty())
+                save(questionBankId, batch, result);
+        } catch (IOException e) {
+            // 끝까지 읽지 못한 업로드는 남은 배치를 저장하지 않고, 이미 커밋된 문제 수를 알려줌
+            log.warn("Question import into question bank {} interrupted after {} questions: {}", questionBankId, result.imported, e.getMessage());
+            throw new QuestionImportInterrupted(result.imported);
+        }
+
+        log.info("Imported {} questions into question bank {} ({} failed).", result.imported, questionBankId, result.failed);
+        return QuestionImportResponse.builder()
+                .imported(result.imported)
+                .failed(result.failed)
+                .errors(result.errors)
+                .build();
+    }
+
+    private String validate(QuestionRecord record) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(record.getRequest());
+        if (violations.isEmpty())
+            return null;
+
+        ConstraintViolation<Object> violation = violations.iterator().next();
+        return violation.getPropertyPath() + ": " + violation.getMessage();
+    }
+
+    private void save(Long questionBankId, List<QuestionRecord> batch, Result result) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> questionBankService.createQuestions(
+                    questionBankId,
+                    batch.stream().map(QuestionRecord::getRequest).toList()
+            ));
+            result.imported += batch.size();
+        } catch (RuntimeException e) {
+            // 배치 중 하나라도 실패하면 전체가 롤백되므로, 한 건씩 다시 저장하여 실패한 레코드만 걸러냄
+            log.warn("Question import batch failed, retrying one by one: {}", e.getMessage());
+            for (QuestionRecord record : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            questionBankService.createQuestion(questionBankId, record.getRequest()));
+                    result.imported++;
+                } catch (RuntimeException recordException) {
+                    result.fail(record.getLine(), recordException.getMessage());
+                }
+            }
+        }
+    }
+
+    private class Result {
+        private long imported = 0;
+        private long failed = 0;
+        private final List<QuestionImportError> errors = new ArrayList<>();
+
+        private void fail(Long line, String message) {
+            failed++;
+            if (errors.size() < maxErrors)
+                errors.add(new QuestionImportError(line, message));
+        }
+    }
+}
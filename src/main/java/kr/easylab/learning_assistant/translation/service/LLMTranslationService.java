@@ -2,8 +2,10 @@ package kr.easylab.learning_assistant.translation.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.easylab.learning_assistant.llm.dto.LLMCallSite;
 import kr.easylab.learning_assistant.llm.dto.LLMConfig;
 import kr.easylab.learning_assistant.llm.dto.LLMMessage;
+import kr.easylab.learning_assistant.llm.service.LLMCallContext;
 import kr.easylab.learning_assistant.llm.service.LLMService;
 import kr.easylab.learning_assistant.translation.dto.Language;
 import kr.easylab.learning_assistant.translation.dto.TranslatedResponse;
@@ -61,10 +63,11 @@ public class LLMTranslationService implements TranslationService {
                     TranslatedResponse.class,
                     LLMConfig.builder()
                             .prompt(prompt + "# 목표 언어: \n" + language)
+                            .callSite(LLMCallContext.currentOr(LLMCallSite.TRANSLATION))
                             .thinking(LLMConfig.ThinkingMode.no)
                             .build()
             );
-            log.info("translation result: {}", result);
+            log.debug("translation result: {}", result);
             return result.getTranslated();
         } catch (JsonProcessingException e) {
             throw new RuntimeException("객체를 JSON으로 변환하는 중 오류가 발생했습니다.", e);
@@ -84,6 +87,7 @@ public class LLMTranslationService implements TranslationService {
                     clazz,
                     LLMConfig.builder()
                             .prompt(prompt + "# 목표 언어: \n" + language)
+                            .callSite(LLMCallContext.currentOr(LLMCallSite.TRANSLATION))
                             .thinking(LLMConfig.ThinkingMode.yes)
                             .build()
             );
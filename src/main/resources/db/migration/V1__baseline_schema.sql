@@ -0,0 +1,79 @@
+-- 마이그레이션 도입 전 ddl-auto: update 로 만들어지던 스키마. 기존 DB 는 baseline-on-migrate 로 이 버전을 건너뜀
+
+create sequence answer_seq start with 1 increment by 50;
+create sequence chatbot_message_seq start with 1 increment by 50;
+create sequence chatbot_seq start with 1 increment by 50;
+create sequence exam_question_seq start with 1 increment by 50;
+create sequence exam_seq start with 1 increment by 50;
+create sequence question_bank_seq start with 1 increment by 50;
+create sequence question_seq start with 1 increment by 50;
+
+create table question_bank (
+    question_bank_id bigint not null,
+    title varchar(255) not null,
+    primary key (question_bank_id)
+);
+
+create table question (
+    question_id bigint not null,
+    question_bank_id bigint not null,
+    explanation varchar(10000),
+    title varchar(10000) not null,
+    primary key (question_id),
+    constraint FK_question_question_bank foreign key (question_bank_id) references question_bank
+);
+
+create table answer (
+    answer_id bigint not null,
+    question_id bigint not null,
+    correct boolean not null,
+    text varchar(10000) not null,
+    primary key (answer_id),
+    constraint FK_answer_question foreign key (question_id) references question
+);
+
+create table chatbot (
+    chatbot_id bigint not null,
+    prefix_prompt varchar(255),
+    primary key (chatbot_id)
+);
+
+create table chatbot_message (
+    chatbot_message_id bigint not null,
+    chatbot_id bigint not null,
+    role smallint check (role between 0 and 1),
+    message varchar(100000) not null,
+    primary key (chatbot_message_id),
+    constraint FK_chatbot_message_chatbot foreign key (chatbot_id) references chatbot
+);
+
+create table exam (
+    exam_id bigint not null,
+    question_bank_id bigint not null,
+    random_seed bigint not null,
+    language varchar(255) not null check (language in ('ENGLISH', 'KOREAN', 'SPANISH', 'FRENCH', 'JAPANESE', 'CHINESE')),
+    primary key (exam_id),
+    constraint FK_exam_question_bank foreign key (question_bank_id) references question_bank
+);
+
+create table exam_question (
+    id bigint not null,
+    exam_id bigint not null,
+    no bigint not null,
+    question_id bigint not null,
+    chatbot_chatbot_id bigint,
+    correct boolean,
+    marked boolean not null,
+    primary key (id),
+    constraint UK_exam_question_exam_id_no unique (exam_id, no),
+    constraint UK_exam_question_chatbot_id unique (chatbot_chatbot_id),
+    constraint FK_exam_question_exam foreign key (exam_id) references exam,
+    constraint FK_exam_question_question foreign key (question_id) references question,
+    constraint FK_exam_question_chatbot foreign key (chatbot_chatbot_id) references chatbot
+);
+
+create table exam_question_user_answers (
+    exam_question_id bigint not null,
+    answer varchar(255) not null,
+    constraint FK_exam_question_user_answers_exam_question foreign key (exam_question_id) references exam_question
+);
@@ -0,0 +1,51 @@
+-- V1 이후 엔티티에 추가된 컬럼과 테이블. 기존 데이터는 이 마이그레이션에서 한 번만 보정함
+
+-- 목록 조회에서 문제 테이블을 집계하지 않도록 문제 은행별 문제 수를 저장
+alter table question_bank add column question_count bigint default 0 not null;
+update question_bank qb
+set question_count = (select count(*) from question q where q.question_bank_id = qb.question_bank_id);
+
+-- 선택한 보기를 비트로 저장 (A = 1, B = 2, C = 4 ...) 하고, 사용자 상태가 바뀔 때마다 버전을 올림
+alter table exam_question add column answer_mask integer;
+alter table exam_question add column version bigint default 0 not null;
+
+-- exam_question_user_answers 에 저장된 답을 answer_mask 로 옮기고, 옮긴 문제의 행만 삭제
+-- 보기 키(A-Z)가 아닌 값만 남은 행은 옮길 수 없으므로 확인할 수 있도록 남겨 둠
+update exam_question eq
+set answer_mask = (
+    select sum(distinct cast(power(2, ascii(a.answer) - 65) as integer))
+    from exam_question_user_answers a
+    where a.exam_question_id = eq.id and length(a.answer) = 1 and a.answer between 'A' and 'Z'
+)
+where eq.answer_mask is null
+  and exists (
+    select 1 from exam_question_user_answers a
+    where a.exam_question_id = eq.id and length(a.answer) = 1 and a.answer between 'A' and 'Z'
+  );
+delete from exam_question_user_answers
+where exam_question_id in (select id from exam_question where answer_mask is not null);
+
+-- 스트리밍 중인 응답의 상태와 생성 시각. 이전 메시지는 모두 완료된 응답
+alter table chatbot_message add column status varchar(255) check (status in ('STREAMING', 'COMPLETED', 'INTERRUPTED'));
+alter table chatbot_message add column created_at timestamp(6);
+update chatbot_message set status = 'COMPLETED' where status is null;
+
+-- 채팅 기록을 최신순 keyset 으로 조회 (chatbot_id = ? AND chatbot_message_id < ? ORDER BY chatbot_message_id DESC)
+create index IX_chatbot_message_chatbot_id_id on chatbot_message (chatbot_id, chatbot_message_id);
+
+-- 오래된 대화를 chatbot 당 하나의 압축된 blob 으로 보관
+alter table chatbot add column archived boolean;
+
+create sequence chatbot_message_archive_seq start with 1 increment by 50;
+
+create table chatbot_message_archive (
+    chatbot_message_archive_id bigint not null,
+    chatbot_id bigint not null,
+    archived_at timestamp(6) not null,
+    last_message_id bigint not null,
+    message_count bigint not null,
+    payload bytea not null,
+    primary key (chatbot_message_archive_id),
+    constraint UK_chatbot_message_archive_chatbot_id unique (chatbot_id),
+    constraint FK_chatbot_message_archive_chatbot foreign key (chatbot_id) references chatbot
+);
@@ -0,0 +1,10 @@
+-- 조회 패턴에 맞춘 인덱스. PostgreSQL 은 외래 키 컬럼에 인덱스를 자동으로 만들지 않음
+
+-- 문제 은행별 문제 조회, 개수, keyset 페이지 조회(question_id > ? ORDER BY question_id)
+create index IX_question_question_bank_id_id on question (question_bank_id, question_id);
+
+-- Question.answer 배치 로딩(question_id IN (...))과 시험 문제 조회의 JOIN FETCH
+create index IX_answer_question_id on answer (question_id);
+
+-- 보관 대상 채팅 조회(GROUP BY chatbot_id HAVING MAX(created_at) < ?)를 인덱스만으로 처리
+create index IX_chatbot_message_chatbot_id_created_at on chatbot_message (chatbot_id, created_at);
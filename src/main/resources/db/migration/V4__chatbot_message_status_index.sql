@@ -0,0 +1,2 @@
+-- 생성 중(STREAMING)으로 남은 오래된 메시지 정리(status = ? AND created_at < ?)
+create index IX_chatbot_message_status_created_at on chatbot_message (status, created_at);
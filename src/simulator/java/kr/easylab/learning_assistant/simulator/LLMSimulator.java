@@ -0,0 +1,333 @@
+package kr.easylab.learning_assistant.simulator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Anthropic /v1/messages 와 Google generateContent / streamGenerateContent 형식을 흉내 내는 로컬 LLM 서버
+// ClaudeLLMService, GoogleLLMService 의 base_url 을 getBaseUrl() 로 지정하면 네트워크 없이 재현 가능한 부하/지연 테스트가 가능
+@Slf4j
+public class LLMSimulator implements AutoCloseable {
+    private final LLMSimulatorConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TextSampler textSampler = new TextSampler();
+    private final SchemaSampler schemaSampler = new SchemaSampler(textSampler);
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong rateLimitedCount = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    // 한 요청에 대한 응답 계획. 모든 값은 seed 와 요청 본문으로부터 결정됨
+    private record Plan(List<String> chunks, long inputTokens, long outputTokens, long thinkingTokens, long firstTokenDelayMillis) {
+        String text() {
+            return String.join("", chunks);
+        }
+    }
+
+    private record Failure(int status, String reason) {
+    }
+
+    public LLMSimulator(LLMSimulatorConfig config) {
+        this.config = config;
+    }
+
+    public LLMSimulator start(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/v1/messages", exchange -> handle(exchange, this::handleAnthropic));
+        server.createContext("/v1beta/models/", exchange -> handle(exchange, this::handleGoogle));
+        server.start();
+        log.info("LLM simulator listening on {}", getBaseUrl());
+        return this;
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getRateLimitedCount() {
+        return rateLimitedCount.get();
+    }
+
+    @Override
+    public void close() {
+        if (server != null)
+            server.stop(0);
+        if (executor != null)
+            executor.shutdownNow();
+    }
+
+    private interface Handler {
+        void handle(HttpExchange exchange, JsonNode request, Random random, Failure failure) throws IOException, InterruptedException;
+    }
+
+    private void handle(HttpExchange exchange, Handler handler) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            JsonNode request = objectMapper.readTree(body);
+            Random random = new Random(config.getSeed() * 31 + Arrays.hashCode(body));
+            handler.handle(exchange, request, random, failure(random));
+        } catch (IOException e) {
+            // 스트리밍 중 클라이언트가 연결을 끊은 경우
+            log.debug("Simulator exchange closed: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Failure failure(Random random) {
+        long n = requestCount.getAndIncrement();
+        if (config.getRateLimitEvery() > 0 && n % config.getRateLimitEvery() < config.getRateLimitBurst()) {
+            rateLimitedCount.incrementAndGet();
+            return new Failure(429, "rate limited (simulated)");
+        }
+        if (random.nextDouble() < config.getErrorRate())
+            return new Failure(config.getErrorStatus(), "internal error (simulated)");
+        return null;
+    }
+
+    private Plan plan(Random random, int requestBytes, Map<String, Object> schema, JsonNode hint, boolean thinking) {
+        List<String> chunks;
+        long outputTokens;
+        if (schema != null) {
+            // 구조화 출력은 글자 4개를 토큰 하나로 보고 나누어 전송
+            String json = schemaSampler.sample(schema, hint, random).toString();
+            chunks = new ArrayList<>();
+            int chunkChars = 4 * config.getStreamChunkTokens();
+            for (int i = 0; i < json.length(); i += chunkChars)
+                chunks.add(json.substring(i, Math.min(json.length(), i + chunkChars)));
+            outputTokens = Math.max(1, json.length() / 4);
+        } else {
+            int count = config.getMinOutputTokens() + random.nextInt(config.getMaxOutputTokens() - config.getMinOutputTokens() + 1);
+            List<String> tokens = textSampler.tokens(random, count);
+            chunks = new ArrayList<>();
+            for (int i = 0; i < tokens.size(); i += config.getStreamChunkTokens())
+                chunks.add(String.join("", tokens.subList(i, Math.min(tokens.size(), i + config.getStreamChunkTokens()))));
+            outputTokens = count;
+        }
+
+        long thinkingTokens = thinking ? Math.round(outputTokens * config.getThinkingRatio()) : 0;
+        double firstToken = config.getFirstTokenLatency().toMillis() * Math.exp(config.getLatencySigma() * random.nextGaussian());
+        long firstTokenDelay = Math.round(firstToken + thinkingTokens * 1000 / config.getTokensPerSecond());
+        return new Plan(chunks, Math.max(1, requestBytes / 4), outputTokens, thinkingTokens, firstTokenDelay);
+    }
+
+    private long chunkDelayMillis(Plan plan) {
+        return Math.round(plan.outputTokens() * 1000 / config.getTokensPerSecond() / Math.max(1, plan.chunks().size()));
+    }
+
+    private JsonNode parseHint(String text) {
+        if (text == null)
+            return null;
+        try {
+            return objectMapper.readTree(text);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> toSchema(JsonNode node) {
+        return node == null || node.isMissingNode() || node.isNull() ? null : objectMapper.convertValue(node, Map.class);
+    }
+
+    // Anthropic
+
+    private void handleAnthropic(HttpExchange exchange, JsonNode request, Random random, Failure failure) throws IOException, InterruptedException {
+        if (failure != null) {
+            ObjectNode error = objectMapper.createObjectNode().put("type", "error");
+            error.putObject("error")
+                    .put("type", failure.status() == 429 ? "rate_limit_error" : "api_error")
+                    .put("message", failure.reason());
+            sendError(exchange, failure.status(), error);
+            return;
+        }
+
+        JsonNode messages = request.path("messages");
+        String lastUserText = null;
+        for (JsonNode message : messages)
+            if ("user".equals(message.path("role").asText()) && message.path("content").isTextual())
+                lastUserText = message.path("content").asText();
+
+        Map<String, Object> schema = toSchema(request.path("output_config").path("format").path("schema"));
+        boolean thinking = "enabled".equals(request.path("thinking").path("type").asText());
+        Plan plan = plan(random, request.toString().length(), schema, parseHint(lastUserText), thinking);
+        String model = request.path("model").asText("simulator");
+        String id = "msg_sim_" + Long.toHexString(random.nextLong());
+
+        if (!request.path("stream").asBoolean(false)) {
+            Thread.sleep(plan.firstTokenDelayMillis() + chunkDelayMillis(plan) * plan.chunks().size());
+            ObjectNode response = objectMapper.createObjectNode()
+                    .put("id", id)
+                    .put("type", "message")
+                    .put("role", "assistant")
+                    .put("model", model)
+                    .put("stop_reason", "end_turn");
+            response.putArray("content").addObject().put("type", "text").put("text", plan.text());
+            response.putObject("usage")
+                    .put("input_tokens", plan.inputTokens())
+                    .put("output_tokens", plan.outputTokens() + plan.thinkingTokens());
+            sendJson(exchange, 200, response);
+            return;
+        }
+
+        OutputStream out = startEventStream(exchange);
+        ObjectNode start = objectMapper.createObjectNode().put("type", "message_start");
+        ObjectNode message = start.putObject("message")
+                .put("id", id)
+                .put("type", "message")
+                .put("role", "assistant")
+                .put("model", model);
+        message.putArray("content");
+        message.putObject("usage").put("input_tokens", plan.inputTokens()).put("output_tokens", 1);
+        sendEvent(out, "message_start", start);
+
+        ObjectNode blockStart = objectMapper.createObjectNode().put("type", "content_block_start").put("index", 0);
+        blockStart.putObject("content_block").put("type", "text").put("text", "");
+        sendEvent(out, "content_block_start", blockStart);
+
+        Thread.sleep(plan.firstTokenDelayMillis());
+        for (String chunk : plan.chunks()) {
+            ObjectNode delta = objectMapper.createObjectNode().put("type", "content_block_delta").put("index", 0);
+            delta.putObject("delta").put("type", "text_delta").put("text", chunk);
+            sendEvent(out, "content_block_delta", delta);
+            Thread.sleep(chunkDelayMillis(plan));
+        }
+
+        sendEvent(out, "content_block_stop", objectMapper.createObjectNode().put("type", "content_block_stop").put("index", 0));
+        ObjectNode messageDelta = objectMapper.createObjectNode().put("type", "message_delta");
+        messageDelta.putObject("delta").put("stop_reason", "end_turn");
+        messageDelta.putObject("usage").put("output_tokens", plan.outputTokens() + plan.thinkingTokens());
+        sendEvent(out, "message_delta", messageDelta);
+        sendEvent(out, "message_stop", objectMapper.createObjectNode().put("type", "message_stop"));
+    }
+
+    // Google
+
+    private void handleGoogle(HttpExchange exchange, JsonNode request, Random random, Failure failure) throws IOException, InterruptedException {
+        String path = exchange.getRequestURI().getPath();
+        boolean stream = path.endsWith(":streamGenerateContent");
+        if (!stream && !path.endsWith(":generateContent")) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+        if (failure != null) {
+            ObjectNode error = objectMapper.createObjectNode();
+            error.putObject("error")
+                    .put("code", failure.status())
+                    .put("message", failure.reason())
+                    .put("status", failure.status() == 429 ? "RESOURCE_EXHAUSTED" : "INTERNAL");
+            sendError(exchange, failure.status(), error);
+            return;
+        }
+        String query = exchange.getRequestURI().getQuery();
+        if (stream && (query == null || !query.contains("alt=sse"))) {
+            sendError(exchange, 400, objectMapper.createObjectNode().put("error", "only alt=sse streaming is simulated"));
+            return;
+        }
+
+        String lastUserText = null;
+        for (JsonNode content : request.path("contents"))
+            if ("user".equals(content.path("role").asText()))
+                lastUserText = content.path("parts").path(0).path("text").asText(null);
+
+        JsonNode generationConfig = request.path("generationConfig");
+        Map<String, Object> schema = toSchema(generationConfig.path("responseSchema"));
+        // thinkingBudget 이 0 이 아니면 2.5 모델처럼 생각 토큰을 소모
+        boolean thinking = generationConfig.path("thinkingConfig").path("thinkingBudget").asLong(-1) != 0;
+        Plan plan = plan(random, request.toString().length(), schema, parseHint(lastUserText), thinking);
+
+        if (!stream) {
+            Thread.sleep(plan.firstTokenDelayMillis() + chunkDelayMillis(plan) * plan.chunks().size());
+            sendJson(exchange, 200, googleResponse(plan.text(), plan, plan.outputTokens(), true));
+            return;
+        }
+
+        OutputStream out = startEventStream(exchange);
+        Thread.sleep(plan.firstTokenDelayMillis());
+        List<String> chunks = plan.chunks();
+        long emitted = 0;
+        for (int i = 0; i < chunks.size(); i++) {
+            emitted += Math.max(1, plan.outputTokens() / chunks.size());
+            boolean last = i == chunks.size() - 1;
+            sendEvent(out, null, googleResponse(chunks.get(i), plan, last ? plan.outputTokens() : emitted, last));
+            Thread.sleep(chunkDelayMillis(plan));
+        }
+    }
+
+    private ObjectNode googleResponse(String text, Plan plan, long candidateTokens, boolean last) {
+        ObjectNode response = objectMapper.createObjectNode();
+        ArrayNode candidates = response.putArray("candidates");
+        ObjectNode candidate = candidates.addObject();
+        ObjectNode content = candidate.putObject("content").put("role", "model");
+        content.putArray("parts").addObject().put("text", text);
+        candidate.put("index", 0);
+        if (last)
+            candidate.put("finishReason", "STOP");
+        ObjectNode usage = response.putObject("usageMetadata")
+                .put("promptTokenCount", plan.inputTokens())
+                .put("candidatesTokenCount", candidateTokens);
+        if (plan.thinkingTokens() > 0)
+            usage.put("thoughtsTokenCount", plan.thinkingTokens());
+        usage.put("totalTokenCount", plan.inputTokens() + candidateTokens + plan.thinkingTokens());
+        return response;
+    }
+
+    // HTTP
+
+    private void sendJson(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private void sendError(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        if (status == 429)
+            exchange.getResponseHeaders().set("Retry-After", String.valueOf(Math.max(1, config.getRetryAfter().toSeconds())));
+        sendJson(exchange, status, body);
+    }
+
+    private OutputStream startEventStream(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+        return exchange.getResponseBody();
+    }
+
+    private void sendEvent(OutputStream out, String event, JsonNode data) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        if (event != null)
+            builder.append("event: ").append(event).append('\n');
+        builder.append("data: ").append(objectMapper.writeValueAsString(data)).append("\n\n");
+        out.write(builder.toString().getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+}
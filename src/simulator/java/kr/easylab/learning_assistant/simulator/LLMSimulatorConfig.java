@@ -0,0 +1,46 @@
+package kr.easylab.learning_assistant.simulator;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+// 시뮬레이터의 지연, 토큰 속도, 오류 주입 설정. 같은 seed 와 같은 요청이면 항상 같은 응답과 지연을 만듦
+@Builder
+@Getter
+public class LLMSimulatorConfig {
+    @Builder.Default
+    private long seed = 42L;
+
+    // 첫 토큰까지의 지연은 로그 정규 분포 (중앙값, sigma)
+    @Builder.Default
+    private Duration firstTokenLatency = Duration.ofMillis(300);
+    @Builder.Default
+    private double latencySigma = 0.5;
+
+    @Builder.Default
+    private double tokensPerSecond = 200;
+    @Builder.Default
+    private int minOutputTokens = 50;
+    @Builder.Default
+    private int maxOutputTokens = 400;
+    // thinking 이 켜진 요청은 출력 토큰의 이 비율만큼 추가로 생각 토큰을 소모
+    @Builder.Default
+    private double thinkingRatio = 0.5;
+    @Builder.Default
+    private int streamChunkTokens = 4;
+
+    // 요청 중 이 비율만큼 5xx 응답
+    @Builder.Default
+    private double errorRate = 0.0;
+    @Builder.Default
+    private int errorStatus = 500;
+
+    // rateLimitEvery 개의 요청마다 처음 rateLimitBurst 개를 429 로 응답 (0 이면 사용 안 함)
+    @Builder.Default
+    private int rateLimitEvery = 0;
+    @Builder.Default
+    private int rateLimitBurst = 0;
+    @Builder.Default
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
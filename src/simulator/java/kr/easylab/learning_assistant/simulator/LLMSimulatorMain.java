@@ -0,0 +1,44 @@
+package kr.easylab.learning_assistant.simulator;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+// 단독 실행: ./gradlew runSimulator --args="--port=8089 --seed=7 --rate_limit_every=50 --rate_limit_burst=5"
+// 애플리케이션은 GOOGLE_BASE_URL / ANTHROPIC_BASE_URL 을 http://127.0.0.1:8089 로 지정
+public class LLMSimulatorMain {
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("="))
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        LLMSimulatorConfig.LLMSimulatorConfigBuilder builder = LLMSimulatorConfig.builder();
+        if (options.containsKey("seed"))
+            builder.seed(Long.parseLong(options.get("seed")));
+        if (options.containsKey("first_token_latency"))
+            builder.firstTokenLatency(Duration.ofMillis(Long.parseLong(options.get("first_token_latency"))));
+        if (options.containsKey("latency_sigma"))
+            builder.latencySigma(Double.parseDouble(options.get("latency_sigma")));
+        if (options.containsKey("tokens_per_second"))
+            builder.tokensPerSecond(Double.parseDouble(options.get("tokens_per_second")));
+        if (options.containsKey("min_output_tokens"))
+            builder.minOutputTokens(Integer.parseInt(options.get("min_output_tokens")));
+        if (options.containsKey("max_output_tokens"))
+            builder.maxOutputTokens(Integer.parseInt(options.get("max_output_tokens")));
+        if (options.containsKey("error_rate"))
+            builder.errorRate(Double.parseDouble(options.get("error_rate")));
+        if (options.containsKey("rate_limit_every"))
+            builder.rateLimitEvery(Integer.parseInt(options.get("rate_limit_every")));
+        if (options.containsKey("rate_limit_burst"))
+            builder.rateLimitBurst(Integer.parseInt(options.get("rate_limit_burst")));
+
+        LLMSimulator simulator = new LLMSimulator(builder.build())
+                .start(Integer.parseInt(options.getOrDefault("port", "8089")));
+        Runtime.getRuntime().addShutdownHook(new Thread(simulator::close));
+        new CountDownLatch(1).await();
+    }
+}
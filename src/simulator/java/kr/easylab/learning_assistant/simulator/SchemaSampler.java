@@ -0,0 +1,79 @@
+package kr.easylab.learning_assistant.simulator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+// 요청의 JSON 스키마를 만족하는 값을 생성
+// 입력 메시지가 JSON 이면 이를 힌트로 사용하여 배열 길이와 문자열을 맞춤 (번역 요청처럼 입력과 출력의 구조가 같은 경우)
+public class SchemaSampler {
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private final TextSampler textSampler;
+
+    public SchemaSampler(TextSampler textSampler) {
+        this.textSampler = textSampler;
+    }
+
+    @SuppressWarnings("unchecked")
+    public JsonNode sample(Map<String, Object> schema, JsonNode hint, Random random) {
+        Object enumValues = schema.get("enum");
+        if (enumValues instanceof List<?> values && !values.isEmpty()) {
+            if (hint != null && hint.isTextual() && values.contains(hint.asText()))
+                return hint;
+            return NODES.textNode(String.valueOf(values.get(random.nextInt(values.size()))));
+        }
+
+        String type = String.valueOf(schema.getOrDefault("type", "string")).toLowerCase();
+        return switch (type) {
+            case "object" -> {
+                ObjectNode node = NODES.objectNode();
+                Object properties = schema.get("properties");
+                if (properties instanceof Map<?, ?> map) {
+                    // HashMap 순서에 영향을 받지 않도록 정렬
+                    for (Map.Entry<String, Object> entry : new TreeMap<>((Map<String, Object>) map).entrySet()) {
+                        Map<String, Object> propertySchema = (Map<String, Object>) entry.getValue();
+                        node.set(entry.getKey(), sample(propertySchema, propertyHint(hint, entry.getKey(), propertySchema), random));
+                    }
+                }
+                yield node;
+            }
+            case "array" -> {
+                ArrayNode node = NODES.arrayNode();
+                Map<String, Object> items = (Map<String, Object>) schema.getOrDefault("items", Map.of("type", "string"));
+                int size;
+                if (hint != null && hint.isArray()) {
+                    size = hint.size();
+                } else {
+                    int min = ((Number) schema.getOrDefault("minItems", 1)).intValue();
+                    int max = ((Number) schema.getOrDefault("maxItems", Math.max(min, 3))).intValue();
+                    size = min + random.nextInt(max - min + 1);
+                }
+                for (int i = 0; i < size; i++)
+                    node.add(sample(items, hint != null && hint.isArray() ? hint.get(i) : null, random));
+                yield node;
+            }
+            case "integer" -> hint != null && hint.isIntegralNumber() ? hint : NODES.numberNode(random.nextInt(100));
+            case "number" -> hint != null && hint.isNumber() ? hint : NODES.numberNode(random.nextDouble() * 100);
+            case "boolean" -> hint != null && hint.isBoolean() ? hint : NODES.booleanNode(random.nextBoolean());
+            default -> hint != null && hint.isTextual() ? hint : NODES.textNode(textSampler.sentence(random, 3 + random.nextInt(6)));
+        };
+    }
+
+    private JsonNode propertyHint(JsonNode hint, String name, Map<String, Object> propertySchema) {
+        if (hint == null)
+            return null;
+        if (hint.isObject())
+            return hint.get(name);
+        // 입력이 배열이고 출력이 배열 필드 하나를 가진 객체인 경우 (예: 번역 결과의 translated)
+        if (hint.isArray() && "array".equalsIgnoreCase(String.valueOf(propertySchema.get("type"))))
+            return hint;
+        return null;
+    }
+}
@@ -0,0 +1,26 @@
+package kr.easylab.learning_assistant.simulator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 자유 형식 응답에 사용할 단어. 토큰 하나를 단어 하나로 취급
+public class TextSampler {
+    private static final String[] WORDS = {
+            "the", "service", "question", "answer", "option", "because", "network", "storage",
+            "latency", "cache", "database", "replica", "request", "policy", "encryption", "region",
+            "instance", "scaling", "queue", "event", "function", "access", "role", "bucket",
+            "correct", "incorrect", "explanation", "concept", "example", "therefore", "however", "consider"
+    };
+
+    public List<String> tokens(Random random, int count) {
+        List<String> tokens = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            tokens.add((i == 0 ? "" : " ") + WORDS[random.nextInt(WORDS.length)]);
+        return tokens;
+    }
+
+    public String sentence(Random random, int words) {
+        return String.join("", tokens(random, words));
+    }
+}
@@ -0,0 +1,91 @@
+package kr.easylab.learning_assistant.chatbot.service;
+
+import jakarta.persistence.EntityManager;
+import kr.easylab.learning_assistant.chatbot.dto.ChatbotMessagePageResponse;
+import kr.easylab.learning_assistant.chatbot.dto.ChatbotMessageResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 메시지가 page_size 보다 많아도 모두 아카이브되는지 확인하기 위해 page_size 를 작게 설정
+@SpringBootTest(properties = "chat.archive.page_size=2")
+@Transactional
+class ChatbotArchiveServiceTest {
+    @Autowired
+    private ChatbotService chatbotService;
+
+    @Autowired
+    private ChatbotArchiveService chatbotArchiveService;
+
+    @Autowired
+    private EntityManager em;
+
+    private Long createChatbot(String... messages) {
+        Long chatbotId = chatbotService.createChatbot("prompt");
+        for (String message : messages)
+            chatbotService.addUserMessage(chatbotId, message);
+        return chatbotId;
+    }
+
+    private void updateCreatedAt(Long chatbotId, String createdAt) {
+        em.flush();
+        em.createNativeQuery("UPDATE chatbot_message SET created_at = " + createdAt + " WHERE chatbot_id = :chatbotId")
+                .setParameter("chatbotId", chatbotId)
+                .executeUpdate();
+        em.clear();
+    }
+
+    private List<String> readAll(Long chatbotId, long limit) {
+        List<String> messages = new ArrayList<>();
+        Long beforeId = null;
+        do {
+            ChatbotMessagePageResponse page = chatbotService.getChatbotMessagePage(chatbotId, beforeId, limit);
+            page.getMessages().stream().map(ChatbotMessageResponse::getMessage).forEach(messages::add);
+            beforeId = page.getNextBeforeId();
+        } while (beforeId != null);
+        return messages;
+    }
+
+    @Test
+    void findsIdleChatbotsIncludingMessagesWithoutCreatedAt() {
+        Long legacy = createChatbot("a", "b");
+        Long old = createChatbot("a");
+        Long recent = createChatbot("a");
+        updateCreatedAt(legacy, "NULL");
+        updateCreatedAt(old, "TIMESTAMP '2000-01-01 00:00:00'");
+
+        List<Long> idle = chatbotArchiveService.findIdleChatbotIds();
+
+        assertTrue(idle.contains(legacy));
+        assertTrue(idle.contains(old));
+        assertFalse(idle.contains(recent));
+    }
+
+    @Test
+    void archivesInPagesAndKeepsKeysetPaging() {
+        Long chatbotId = createChatbot("1", "2", "3", "4", "5");
+
+        chatbotArchiveService.archive(chatbotId);
+        em.flush();
+        em.clear();
+        chatbotService.addUserMessage(chatbotId, "6");
+        chatbotService.addUserMessage(chatbotId, "7");
+        chatbotArchiveService.archive(chatbotId);
+        chatbotService.addUserMessage(chatbotId, "8");
+        em.flush();
+        em.clear();
+
+        // 아카이브 두 번에 나뉜 메시지와 남아 있는 메시지가 빠짐없이 최신순으로 이어짐
+        assertEquals(List.of("8", "7", "6", "5", "4", "3", "2", "1"), readAll(chatbotId, 3));
+        assertEquals(List.of("8", "7", "6", "5", "4", "3", "2", "1"), readAll(chatbotId, 2));
+        assertEquals(1, em.createQuery("SELECT COUNT(c) FROM ChatbotMessage c WHERE c.chatbot.id = :chatbotId", Long.class)
+                .setParameter("chatbotId", chatbotId)
+                .getSingleResult());
+    }
+}
@@ -0,0 +1,111 @@
+package kr.easylab.learning_assistant.chatbot.service;
+
+import kr.easylab.learning_assistant.chatbot.dto.ChatbotStreamChunk;
+import kr.easylab.learning_assistant.chatbot.entity.ChatbotMessage;
+import kr.easylab.learning_assistant.chatbot.exception.ChatbotStreamInProgress;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 이어받기는 별도 스레드의 트랜잭션에서 저장된 메시지를 읽으므로 커밋되는 DB 를 따로 사용
+// 재생 버퍼에서 밀려난 청크를 만들기 위해 replay_chunks 를 작게 설정
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:chatbot-service",
+        "chat.stream.resume_poll_interval=50ms",
+        "chat.stream.resume_timeout=500ms",
+        "chat.stream.broker.replay_chunks=2",
+        "chat.stream.broker.grace_period=200ms"
+})
+class ChatbotServiceTest {
+    @Autowired
+    private ChatbotService chatbotService;
+
+    @Autowired
+    private ChatbotStreamBroker chatbotStreamBroker;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void interruptsStaleStreamingMessages() {
+        Long chatbotId = chatbotService.createChatbot("prompt");
+        Long stale = chatbotService.startAssistantMessage(chatbotId);
+        Long recent = chatbotService.startAssistantMessage(chatbotId);
+        jdbcTemplate.update("UPDATE chatbot_message SET created_at = ? WHERE chatbot_message_id = ?", LocalDateTime.now().minusDays(1), stale);
+
+        assertEquals(1, chatbotService.interruptStaleMessages());
+
+        assertEquals(ChatbotMessage.Status.INTERRUPTED, chatbotService.getChatbotMessage(chatbotId, stale).getStatus());
+        assertEquals(ChatbotMessage.Status.STREAMING, chatbotService.getChatbotMessage(chatbotId, recent).getStatus());
+    }
+
+    @Test
+    void resumeEndsWhenStreamingMessageStopsGrowing() {
+        Long chatbotId = chatbotService.createChatbot("prompt");
+        Long messageId = chatbotService.startAssistantMessage(chatbotId);
+        chatbotService.appendAssistantMessage(messageId, "partial");
+
+        // 생성한 쪽이 사라져 STREAMING 으로 남은 메시지도 resume_timeout 뒤에는 오류 없이 끝남
+        List<ChatbotStreamChunk> chunks = chatbotService.resumeMessageStream(chatbotId, messageId, 0L)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+        assertEquals(List.of("partial"), chunks.stream().map(ChatbotStreamChunk::getText).toList());
+    }
+
+    @Test
+    void attachFallsBackToPersistedTextWhenItLagsTheReplayBuffer() throws Exception {
+        Long chatbotId = chatbotService.createChatbot("prompt");
+        Long messageId = chatbotService.startAssistantMessage(chatbotId);
+        Sinks.Many<ChatbotStreamChunk> source = Sinks.many().unicast().onBackpressureBuffer();
+        Disposable generating = chatbotStreamBroker.publish(chatbotId, "key", source::asFlux).subscribe();
+
+        // "a", "b" 는 재생 버퍼에서 밀려났고 저장된 내용은 "a" 까지뿐
+        String[] texts = {"a", "b", "c", "d"};
+        for (int i = 0; i < texts.length; i++)
+            source.tryEmitNext(new ChatbotStreamChunk(messageId, (long) i + 1, texts[i]));
+        chatbotService.appendAssistantMessage(messageId, "a");
+
+        CompletableFuture<List<ChatbotStreamChunk>> attached = chatbotService.attachMessageStream(chatbotId, messageId, 0L)
+                .collectList()
+                .toFuture();
+        // 저장된 내용을 읽은 뒤에 나머지가 저장되도록 잠시 기다림
+        Thread.sleep(200);
+        chatbotService.appendAssistantMessage(messageId, "bcd");
+        chatbotService.finishAssistantMessage(messageId, ChatbotMessage.Status.COMPLETED);
+        source.tryEmitComplete();
+
+        String text = attached.get(10, TimeUnit.SECONDS).stream().map(ChatbotStreamChunk::getText).collect(Collectors.joining());
+        assertEquals("abcd", text);
+        generating.dispose();
+    }
+
+    @Test
+    void brokerForgetsFailedAndUnsubscribedStreams() throws Exception {
+        Long chatbotId = chatbotService.createChatbot("prompt");
+
+        assertThrows(IllegalStateException.class, () -> chatbotStreamBroker.publish(chatbotId, "failed", () -> {
+            throw new IllegalStateException();
+        }));
+        assertTrue(chatbotStreamBroker.attach(chatbotId).isEmpty());
+
+        // 구독되지 않은 스트림은 grace period 뒤에 제거되어 다른 요청을 막지 않음
+        chatbotStreamBroker.publish(chatbotId, "unsubscribed", Flux::never);
+        assertThrows(ChatbotStreamInProgress.class, () -> chatbotStreamBroker.publish(chatbotId, "other", Flux::empty));
+        for (int i = 0; i < 100 && chatbotStreamBroker.attach(chatbotId).isPresent(); i++)
+            Thread.sleep(50);
+        assertTrue(chatbotStreamBroker.attach(chatbotId).isEmpty());
+    }
+}
@@ -0,0 +1,89 @@
+package kr.easylab.learning_assistant.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerializedResponseCacheTest {
+    private final SerializedResponseCache cache = new SerializedResponseCache(
+            new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE), 1024 * 1024, 100);
+
+    private record Body(Object userAnswers) {
+    }
+
+    private ServletWebRequest request(String ifNoneMatch, String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/test");
+        if (ifNoneMatch != null)
+            request.addHeader("If-None-Match", ifNoneMatch);
+        if (acceptEncoding != null)
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    @Test
+    void serializesOncePerVersion() {
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            ResponseEntity<byte[]> response = cache.respond(request(null, null), "test", "\"1\"", CacheControl.noCache(),
+                    () -> new Body(calls.incrementAndGet()));
+            assertEquals("{\"user_answers\":1}", new String(response.getBody(), StandardCharsets.UTF_8));
+            assertEquals("\"1\"", response.getHeaders().getETag());
+        }
+
+        cache.respond(request(null, null), "test", "\"2\"", CacheControl.noCache(), () -> new Body(calls.incrementAndGet()));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void notModifiedSkipsBody() {
+        ServletWebRequest request = request("\"1\"", null);
+
+        ResponseEntity<byte[]> response = cache.respond(request, "test", "\"1\"", CacheControl.noCache(), () -> fail("body should not be built"));
+
+        assertNull(response);
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), request.getResponse().getStatus());
+    }
+
+    @Test
+    void compressesLargeResponsesForGzipClients() throws Exception {
+        String text = "a".repeat(1000);
+
+        ResponseEntity<byte[]> gzip = cache.respond(request(null, "br, gzip"), "test", "\"1\"", CacheControl.noCache(), () -> new Body(text));
+        ResponseEntity<byte[]> plain = cache.respond(request(null, "gzip;q=0"), "test", "\"1\"", CacheControl.noCache(), () -> new Body(text));
+
+        assertEquals("gzip", gzip.getHeaders().getFirst("Content-Encoding"));
+        assertEquals("\"1-gzip\"", gzip.getHeaders().getETag());
+        assertEquals("\"1\"", plain.getHeaders().getETag());
+        assertTrue(gzip.getBody().length < plain.getBody().length);
+        assertNull(plain.getHeaders().getFirst("Content-Encoding"));
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(gzip.getBody()))) {
+            assertArrayEquals(plain.getBody(), input.readAllBytes());
+        }
+    }
+
+    @Test
+    void gzipETagMatchesOnlyForGzipClients() {
+        String text = "a".repeat(1000);
+        ServletWebRequest gzip = request("\"1-gzip\"", "gzip");
+
+        assertNull(cache.respond(gzip, "test", "\"1\"", CacheControl.noCache(), () -> fail("body should not be built")));
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), gzip.getResponse().getStatus());
+
+        ResponseEntity<byte[]> plain = cache.respond(request("\"1-gzip\"", null), "test", "\"1\"", CacheControl.noCache(), () -> new Body(text));
+        assertEquals("\"1\"", plain.getHeaders().getETag());
+        assertNull(plain.getHeaders().getFirst("Content-Encoding"));
+    }
+}
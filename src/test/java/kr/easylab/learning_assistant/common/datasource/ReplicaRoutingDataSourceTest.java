@@ -0,0 +1,39 @@
+package kr.easylab.learning_assistant.common.datasource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReplicaRoutingDataSourceTest {
+    private final DataSource primary = new DriverManagerDataSource("jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1", "sa", "");
+    private final DataSource replica = new DriverManagerDataSource("jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1", "sa", "");
+
+    private String currentDatabase(String lagQuery, boolean readOnly) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, lagQuery, Duration.ofSeconds(5));
+        monitor.check();
+
+        DataSource dataSource = ReplicaRoutingDataSource.create(primary, replica, monitor);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToReplica() {
+        assertEquals("ROUTING-REPLICA", currentDatabase("SELECT 0", true));
+        assertEquals("ROUTING-PRIMARY", currentDatabase("SELECT 0", false));
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaLags() {
+        assertEquals("ROUTING-PRIMARY", currentDatabase("SELECT 60", true));
+        assertEquals("ROUTING-PRIMARY", currentDatabase("SELECT no_such_column", true));
+    }
+}
@@ -0,0 +1,72 @@
+package kr.easylab.learning_assistant.common.performance;
+
+import kr.easylab.learning_assistant.common.tracing.InMemorySpanReporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class PerformanceEndpointTest {
+    private static final String ADMIN = "Basic " + Base64.getEncoder().encodeToString("admin:password".getBytes(StandardCharsets.UTF_8));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private InMemorySpanReporter spanReporter;
+
+    @BeforeEach
+    void setUp() {
+        Objects.requireNonNull(cacheManager.getCache("exam-translation")).clear();
+        spanReporter.clear();
+    }
+
+    @Test
+    void requiresAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/performance")).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void summarisesCacheAndSlowRequests() throws Exception {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache("exam-translation"));
+        cache.get("1-0", () -> "translated");
+        cache.get("1-0", () -> "translated");
+        mockMvc.perform(get("/api/1/question-banks")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/performance").header(HttpHeaders.AUTHORIZATION, ADMIN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.translation_cache.size").value(1))
+                .andExpect(jsonPath("$.translation_cache.hit_rate").value(0.5))
+                .andExpect(jsonPath("$.prefetch.queue_depth").value(0))
+                .andExpect(jsonPath("$.llm.in_flight_by_call_site.report").value(0))
+                .andExpect(jsonPath("$.llm.concurrency_limit").value(20.0))
+                .andExpect(jsonPath("$.llm.rejected_by_priority.speculative").value(0))
+                .andExpect(jsonPath("$.chat.active_streams").value(0))
+                .andExpect(jsonPath("$.write_behind.pending").value(0))
+                .andExpect(jsonPath("$.slowest_requests[*].uri", hasItem("/api/1/question-banks")))
+                .andExpect(jsonPath("$.slowest_requests[0].duration_ms", greaterThan(0.0)))
+                .andExpect(jsonPath("$.slowest_requests[0].breakdown[*].name", hasItem("query")));
+    }
+}
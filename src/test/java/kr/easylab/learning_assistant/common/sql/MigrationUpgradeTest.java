@@ -0,0 +1,73 @@
+package kr.easylab.learning_assistant.common.sql;
+
+import kr.easylab.learning_assistant.chatbot.entity.ChatbotMessage;
+import kr.easylab.learning_assistant.exam.repository.ExamRepository;
+import kr.easylab.learning_assistant.question.dto.QuestionBankResponse;
+import kr.easylab.learning_assistant.question.service.QuestionBankService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// ddl-auto 로 만들어진 기존 DB(V1)에 데이터를 넣은 뒤 기동하여, 이후 마이그레이션과 데이터 보정을 거친 스키마가 엔티티와 일치하는지 검사한다.
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + MigrationUpgradeTest.URL,
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.flyway.enabled=true",
+        "spring.flyway.baseline-on-migrate=true",
+        "spring.flyway.baseline-version=1",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class MigrationUpgradeTest {
+    static final String URL = "jdbc:h2:mem:migration-upgrade;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private QuestionBankService questionBankService;
+
+    @Autowired
+    private ExamRepository examRepository;
+
+    // 컨텍스트가 만들어지기 전에 V1 스키마와 이전 형식의 데이터를 준비
+    @DynamicPropertySource
+    static void baseline(DynamicPropertyRegistry registry) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline_schema.sql")).execute(dataSource);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO question_bank (question_bank_id, title) VALUES (1, 'bank'), (2, 'empty')");
+        jdbcTemplate.update("INSERT INTO question (question_id, question_bank_id, title) VALUES (1, 1, 'q1'), (2, 1, 'q2')");
+        jdbcTemplate.update("INSERT INTO answer (answer_id, question_id, correct, text) VALUES (1, 1, TRUE, 'a'), (2, 1, FALSE, 'b'), (3, 1, TRUE, 'c'), (4, 2, TRUE, 'a')");
+        jdbcTemplate.update("INSERT INTO chatbot (chatbot_id) VALUES (1)");
+        jdbcTemplate.update("INSERT INTO chatbot_message (chatbot_message_id, chatbot_id, role, message) VALUES (1, 1, 0, 'hi'), (2, 1, 1, 'hello')");
+        jdbcTemplate.update("INSERT INTO exam (exam_id, question_bank_id, random_seed, language) VALUES (1, 1, 1, 'KOREAN')");
+        jdbcTemplate.update("INSERT INTO exam_question (id, exam_id, no, question_id, chatbot_chatbot_id, correct, marked) VALUES (1, 1, 0, 1, 1, TRUE, FALSE), (2, 1, 1, 2, NULL, NULL, TRUE), (3, 1, 2, 2, NULL, FALSE, FALSE)");
+        jdbcTemplate.update("INSERT INTO exam_question_user_answers (exam_question_id, answer) VALUES (1, 'A'), (1, 'C'), (3, 'unknown')");
+    }
+
+    @Test
+    void upgradesBaselineData() {
+        assertEquals(List.of(2L, 0L), questionBankService.getQuestionBanks().stream().map(QuestionBankResponse::getQuestions).toList());
+
+        assertEquals(List.of("A", "C"), examRepository.findQuestion(1L, 0L).getUserAnswers());
+        assertNull(examRepository.findQuestion(1L, 1L).getAnswerMask());
+        assertNull(examRepository.findQuestion(1L, 2L).getAnswerMask());
+        // 옮기지 못한 답은 남겨 둠
+        assertEquals(List.of(3L), jdbcTemplate.queryForList("SELECT exam_question_id FROM exam_question_user_answers", Long.class));
+
+        assertEquals(List.of(ChatbotMessage.Status.COMPLETED.name(), ChatbotMessage.Status.COMPLETED.name()),
+                jdbcTemplate.queryForList("SELECT status FROM chatbot_message ORDER BY chatbot_message_id", String.class));
+    }
+}
@@ -0,0 +1,175 @@
+package kr.easylab.learning_assistant.common.sql;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.easylab.learning_assistant.chatbot.service.ChatbotArchiveService;
+import kr.easylab.learning_assistant.simulator.LLMSimulator;
+import kr.easylab.learning_assistant.simulator.LLMSimulatorConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+// 마이그레이션으로 만든 스키마에 운영 규모의 데이터를 넣고, 주요 API 가 실행한 SQL 이 전체 테이블 스캔(tableScan)을 하면 실패시킨다.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plan;MODE=PostgreSQL",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=kr.easylab.learning_assistant.common.sql.StatementRecorder"
+})
+@AutoConfigureMockMvc
+class QueryPlanTest {
+    private static final long BASE_ID = 1_000_001;
+    private static final int QUESTION_BANKS = 10;
+    private static final int QUESTIONS = 10_000;
+    private static final int ANSWERS_PER_QUESTION = 4;
+    private static final int EXAMS = 200;
+    private static final int QUESTIONS_PER_EXAM = 50;
+    private static final int CHATBOTS = 2_000;
+    private static final int MESSAGES_PER_CHATBOT = 20;
+    private static final String ADMIN = "Basic " + Base64.getEncoder().encodeToString("admin:password".getBytes(StandardCharsets.UTF_8));
+
+    private static LLMSimulator simulator;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ChatbotArchiveService chatbotArchiveService;
+
+    @DynamicPropertySource
+    static void llm(DynamicPropertyRegistry registry) throws IOException {
+        simulator = new LLMSimulator(LLMSimulatorConfig.builder()
+                .firstTokenLatency(Duration.ofMillis(1))
+                .tokensPerSecond(1_000_000)
+                .build()).start(0);
+        registry.add("llm.google.base_url", simulator::getBaseUrl);
+    }
+
+    @AfterAll
+    static void stopSimulator() {
+        simulator.close();
+    }
+
+    // H2 는 외래 키마다 인덱스를 자동으로 만들지만 PostgreSQL 은 만들지 않으므로,
+    // 외래 키를 지워 마이그레이션에 정의한 인덱스만으로 실행 계획을 세우게 한다.
+    private void dropForeignKeys() {
+        jdbcTemplate.queryForList("SELECT table_name, constraint_name FROM information_schema.table_constraints WHERE constraint_type = 'FOREIGN KEY'")
+                .forEach(row -> jdbcTemplate.execute("ALTER TABLE " + row.get("table_name") + " DROP CONSTRAINT " + row.get("constraint_name")));
+    }
+
+    // 시퀀스와 겹치지 않도록 BASE_ID 부터 id 를 부여
+    @BeforeEach
+    void setUp() {
+        dropForeignKeys();
+        jdbcTemplate.update("INSERT INTO question_bank (question_bank_id, question_count, title) SELECT X, ?, 'bank' FROM SYSTEM_RANGE(?, ?)",
+                QUESTIONS / QUESTION_BANKS, BASE_ID, BASE_ID + QUESTION_BANKS - 1);
+        jdbcTemplate.update("INSERT INTO question (question_id, question_bank_id, title, explanation) SELECT X, ? + MOD(X - ?, ?), 'question', 'explanation' FROM SYSTEM_RANGE(?, ?)",
+                BASE_ID, BASE_ID, QUESTION_BANKS, BASE_ID, BASE_ID + QUESTIONS - 1);
+        jdbcTemplate.update("INSERT INTO answer (answer_id, question_id, correct, text) SELECT X, ? + MOD(X - ?, ?), X < ?, 'answer' FROM SYSTEM_RANGE(?, ?)",
+                BASE_ID, BASE_ID, QUESTIONS, BASE_ID + QUESTIONS, BASE_ID, BASE_ID + (long) QUESTIONS * ANSWERS_PER_QUESTION - 1);
+        jdbcTemplate.update("INSERT INTO exam (exam_id, question_bank_id, random_seed, language) SELECT X, ? + MOD(X - ?, ?), X, 'KOREAN' FROM SYSTEM_RANGE(?, ?)",
+                BASE_ID, BASE_ID, QUESTION_BANKS, BASE_ID, BASE_ID + EXAMS - 1);
+        jdbcTemplate.update("INSERT INTO exam_question (id, exam_id, no, question_id, marked, version) SELECT X, ? + (X - ?) / ?, MOD(X - ?, ?), ? + MOD(X - ?, ?), FALSE, 0 FROM SYSTEM_RANGE(?, ?)",
+                BASE_ID, BASE_ID, QUESTIONS_PER_EXAM, BASE_ID, QUESTIONS_PER_EXAM, BASE_ID, BASE_ID, QUESTIONS, BASE_ID, BASE_ID + (long) EXAMS * QUESTIONS_PER_EXAM - 1);
+        jdbcTemplate.update("INSERT INTO chatbot (chatbot_id, archived) SELECT X, FALSE FROM SYSTEM_RANGE(?, ?)",
+                BASE_ID, BASE_ID + CHATBOTS - 1);
+        jdbcTemplate.update("INSERT INTO chatbot_message (chatbot_message_id, chatbot_id, role, created_at, message, status) SELECT X, ? + MOD(X - ?, ?), MOD(X, 2), DATEADD('MINUTE', -X, LOCALTIMESTAMP), 'message', 'COMPLETED' FROM SYSTEM_RANGE(?, ?)",
+                BASE_ID, BASE_ID, CHATBOTS, BASE_ID, BASE_ID + (long) CHATBOTS * MESSAGES_PER_CHATBOT - 1);
+        jdbcTemplate.execute("ANALYZE");
+        StatementRecorder.clear();
+    }
+
+    private MvcResult perform(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        if (result.getRequest().isAsyncStarted())
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        assertTrue(result.getResponse().getStatus() < 400, result.getRequest().getRequestURI() + " returned " + result.getResponse().getStatus());
+        return result;
+    }
+
+    private JsonNode json(MvcResult result) throws IOException {
+        return objectMapper.readTree(result.getResponse().getContentAsByteArray());
+    }
+
+    private void exerciseHotPaths() throws Exception {
+        perform(get("/api/1/question-banks"));
+        perform(get("/api/1/question-banks/" + BASE_ID + "/export").header(HttpHeaders.AUTHORIZATION, ADMIN));
+
+        String examPath = "/api/1/exams/" + json(perform(post("/api/1/exams")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"question_bank_id\":" + BASE_ID + ",\"language\":\"ko\",\"questions\":10}"))).path("exam_id").asLong();
+        perform(get(examPath + "/total_questions"));
+        perform(get(examPath + "/questions").accept(MediaType.APPLICATION_NDJSON));
+        perform(get(examPath + "/questions/0/content"));
+        perform(get(examPath + "/questions/0/state"));
+        perform(post(examPath + "/questions/0/marker"));
+        perform(delete(examPath + "/questions/0/marker"));
+        for (int no = 0; no < 10; no++) {
+            JsonNode question = json(perform(get(examPath + "/questions/" + no)));
+            perform(post(examPath + "/questions/" + no + "/answer")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"user_answers\":[\"" + question.path("options").get(0).path("key").asText() + "\"]}"));
+        }
+        perform(get(examPath + "/result"));
+
+        perform(get(examPath + "/questions/0/chat/preset"));
+        perform(post(examPath + "/questions/0/chat")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"user\":\"why?\"}"));
+        JsonNode page = json(perform(get(examPath + "/questions/0/chat/messages").param("limit", "1")));
+        perform(get(examPath + "/questions/0/chat/messages").param("before_id", page.path("next_before_id").asText()));
+
+        chatbotArchiveService.findIdleChatbotIds();
+        chatbotArchiveService.archive(BASE_ID);
+    }
+
+    @Test
+    void hotQueriesUseIndexes() throws Exception {
+        exerciseHotPaths();
+
+        List<String> violations = new ArrayList<>();
+        for (String sql : StatementRecorder.getStatements()) {
+            String statement = sql.strip().toLowerCase(Locale.ROOT);
+            if (!statement.startsWith("select") && !statement.startsWith("update") && !statement.startsWith("delete"))
+                continue;
+
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+            if (plan.contains(".tableScan"))
+                violations.add(plan);
+        }
+
+        assertTrue(violations.isEmpty(), () -> "Queries without a usable index:\n\n" + String.join("\n\n", violations));
+    }
+}
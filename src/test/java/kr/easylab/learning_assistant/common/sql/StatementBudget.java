@@ -0,0 +1,45 @@
+package kr.easylab.learning_assistant.common.sql;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+
+// 요청 하나가 실행한 SQL 문 수를 Hibernate 통계로 세고, 예산을 넘으면 실패시킨다.
+// 통계는 애플리케이션 전역이므로 측정하는 동안 다른 요청이나 백그라운드 작업이 DB 를 사용하지 않아야 한다.
+public class StatementBudget {
+    private final MockMvc mockMvc;
+    private final Statistics statistics;
+
+    public StatementBudget(MockMvc mockMvc, EntityManagerFactory entityManagerFactory) {
+        this.mockMvc = mockMvc;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    // 비동기 응답(Flux, StreamingResponseBody)은 완료될 때까지 기다린 뒤 센다.
+    public MvcResult perform(long maxStatements, RequestBuilder request) throws Exception {
+        statistics.clear();
+        MvcResult result = mockMvc.perform(request).andReturn();
+        if (result.getRequest().isAsyncStarted())
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+
+        long statements = statistics.getPrepareStatementCount();
+        MockHttpServletRequest servletRequest = result.getRequest();
+        String endpoint = servletRequest.getMethod() + " " + servletRequest.getRequestURI();
+        int status = result.getResponse().getStatus();
+
+        assertTrue(status < 400, endpoint + " returned " + status);
+        assertTrue(statements <= maxStatements, () -> String.format(
+                "%s: %d statements (budget %d), entity loads %d, collection fetches %d, queries %d",
+                endpoint, statements, maxStatements, statistics.getEntityLoadCount(),
+                statistics.getCollectionFetchCount(), statistics.getQueryExecutionCount()));
+        return result;
+    }
+}
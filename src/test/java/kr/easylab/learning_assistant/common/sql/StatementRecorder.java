@@ -0,0 +1,27 @@
+package kr.easylab.learning_assistant.common.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Hibernate 가 실행하는 SQL 을 중복 없이 기록한다.
+// hibernate.session_factory.statement_inspector 에 클래스 이름으로 등록되어 Hibernate 가 직접 생성하므로 기록은 static 으로 공유
+public class StatementRecorder implements StatementInspector {
+    private static final Set<String> statements = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        statements.clear();
+    }
+
+    public static List<String> getStatements() {
+        return List.copyOf(statements);
+    }
+}
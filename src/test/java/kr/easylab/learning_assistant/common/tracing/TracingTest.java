@@ -0,0 +1,88 @@
+package kr.easylab.learning_assistant.common.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.exporter.FinishedSpan;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.web.servlet.MockMvc;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class TracingTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InMemorySpanReporter spanReporter;
+
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
+    @Autowired
+    private Tracer tracer;
+
+    @Autowired
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        Objects.requireNonNull(cacheManager.getCache("question-banks")).clear();
+        spanReporter.clear();
+    }
+
+    @Test
+    void requestAndQueriesShareTrace() throws Exception {
+        mockMvc.perform(get("/api/1/question-banks")).andExpect(status().isOk());
+
+        FinishedSpan server = spanReporter.getSpans().stream()
+                .filter(span -> span.getName().startsWith("http get"))
+                .findFirst()
+                .orElseThrow();
+        List<FinishedSpan> trace = spanReporter.getTrace(server.getTraceId());
+        assertTrue(trace.stream().anyMatch(span -> span.getName().equals("query")), trace.toString());
+    }
+
+    @Test
+    void contextPropagatesToAsyncExecutorAndReactor() throws Exception {
+        Observation parent = Observation.start("test.parent", observationRegistry);
+        String traceId;
+        String asyncTraceId;
+        String reactorTraceId;
+        try (Observation.Scope scope = parent.openScope()) {
+            traceId = Objects.requireNonNull(tracer.currentSpan()).context().traceId();
+            asyncTraceId = applicationTaskExecutor.submit(() -> Objects.requireNonNull(tracer.currentSpan()).context().traceId()).get();
+            reactorTraceId = Mono.fromCallable(() -> Objects.requireNonNull(tracer.currentSpan()).context().traceId())
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .block();
+        } finally {
+            parent.stop();
+        }
+
+        assertNotNull(traceId);
+        assertEquals(traceId, asyncTraceId);
+        assertEquals(traceId, reactorTraceId);
+    }
+}
@@ -0,0 +1,194 @@
+package kr.easylab.learning_assistant.exam.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import kr.easylab.learning_assistant.common.sql.StatementBudget;
+import kr.easylab.learning_assistant.exam.dto.ExamCreationRequest;
+import kr.easylab.learning_assistant.exam.service.ExamService;
+import kr.easylab.learning_assistant.question.dto.QuestionCreationRequest;
+import kr.easylab.learning_assistant.question.service.QuestionBankService;
+import kr.easylab.learning_assistant.simulator.LLMSimulator;
+import kr.easylab.learning_assistant.simulator.LLMSimulatorConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+// 시험 API 마다 실행되는 SQL 문 수의 상한을 검사하여 Exam.examQuestions, Question.answer,
+// ExamQuestion.userAnswers 의 N+1 조회가 다시 생기지 않도록 한다.
+// 번역, 보고서, 채팅은 로컬 LLM 시뮬레이터로 응답한다.
+// 요청마다 커밋되므로 다른 테스트와 공유하지 않는 DB 를 사용
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:exam-budget")
+@AutoConfigureMockMvc
+class ExamControllerStatementBudgetTest {
+    private static final int QUESTION_COUNT = 120;
+    private static final long EXAM_QUESTION_COUNT = 30;
+
+    private static LLMSimulator simulator;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private QuestionBankService questionBankService;
+
+    @Autowired
+    private ExamService examService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private StatementBudget budget;
+    private Long questionBankId;
+    private Long examId;
+    private String examPath;
+
+    @DynamicPropertySource
+    static void llm(DynamicPropertyRegistry registry) throws IOException {
+        simulator = new LLMSimulator(LLMSimulatorConfig.builder()
+                .firstTokenLatency(Duration.ofMillis(1))
+                .tokensPerSecond(1_000_000)
+                .build()).start(0);
+        registry.add("llm.google.base_url", simulator::getBaseUrl);
+    }
+
+    @AfterAll
+    static void stopSimulator() {
+        simulator.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        budget = new StatementBudget(mockMvc, entityManagerFactory);
+        questionBankId = questionBankService.createQuestionBank("budget");
+        for (int i = 0; i < QUESTION_COUNT; i++) {
+            questionBankService.createQuestion(questionBankId, QuestionCreationRequest.builder()
+                    .title("question " + i)
+                    .correctAnswers(new String[]{"correct"})
+                    .incorrectAnswers(new String[]{"incorrect 1", "incorrect 2", "incorrect 3"})
+                    .explanation("explanation")
+                    .build());
+        }
+        examId = examService.createExam(ExamCreationRequest.builder()
+                .question_bank_id(questionBankId)
+                .language("ko")
+                .questions(EXAM_QUESTION_COUNT)
+                .build());
+        examPath = "/api/1/exams/" + examId;
+    }
+
+    private JsonNode json(byte[] body) throws IOException {
+        return objectMapper.readTree(body);
+    }
+
+    private void answer(long no) throws Exception {
+        JsonNode question = json(mockMvc.perform(get(examPath + "/questions/" + no)).andReturn().getResponse().getContentAsByteArray());
+        mockMvc.perform(post(examPath + "/questions/" + no + "/answer")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"user_answers\":[\"" + question.path("options").get(0).path("key").asText() + "\"]}"));
+    }
+
+    @Test
+    void createExam() throws Exception {
+        budget.perform(5, post("/api/1/exams")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"question_bank_id\":" + questionBankId + ",\"language\":\"ko\",\"questions\":" + EXAM_QUESTION_COUNT + "}"));
+    }
+
+    @Test
+    void getTotalQuestionCount() throws Exception {
+        budget.perform(2, get(examPath + "/total_questions"));
+    }
+
+    @Test
+    void getQuestions() throws Exception {
+        // 시험 확인 1번과 창 전체 조회 1번. 번역은 조회한 문제로 진행하므로 문제 수와 무관
+        budget.perform(2, get(examPath + "/questions").accept(MediaType.APPLICATION_NDJSON));
+
+        // 창 전체를 번역하는 데 spring.mvc.async.request-timeout 보다 오래 걸릴 수 있으므로 스트림 응답에는 시간 제한이 없어야 함
+        for (MediaType mediaType : List.of(MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM)) {
+            MvcResult result = mockMvc.perform(get(examPath + "/questions").accept(mediaType)).andReturn();
+            assertEquals(-1, result.getRequest().getAsyncContext().getTimeout());
+        }
+    }
+
+    @Test
+    void getQuestion() throws Exception {
+        budget.perform(3, get(examPath + "/questions/0"));
+        // 번역이 캐시된 뒤에는 문제 상태만 조회
+        budget.perform(1, get(examPath + "/questions/0"));
+    }
+
+    @Test
+    void getQuestionContentAndState() throws Exception {
+        // 답을 제출하지 않은 문제의 상태는 제목과 보기를 번역하지 않고 만듦
+        budget.perform(2, get(examPath + "/questions/0/state"));
+        assertNull(Objects.requireNonNull(cacheManager.getCache("exam-translation")).get(new SimpleKey(examId, 0L)));
+
+        budget.perform(2, get(examPath + "/questions/0/content"));
+        assertNotNull(Objects.requireNonNull(cacheManager.getCache("exam-translation")).get(new SimpleKey(examId, 0L)));
+    }
+
+    @Test
+    void submitAnswer() throws Exception {
+        JsonNode question = json(budget.perform(3, get(examPath + "/questions/0")).getResponse().getContentAsByteArray());
+
+        budget.perform(2, post(examPath + "/questions/0/answer")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"user_answers\":[\"" + question.path("options").get(0).path("key").asText() + "\"]}"));
+    }
+
+    @Test
+    void toggleMarker() throws Exception {
+        budget.perform(1, post(examPath + "/questions/0/marker"));
+        budget.perform(1, delete(examPath + "/questions/0/marker"));
+    }
+
+    @Test
+    void getResult() throws Exception {
+        for (long no = 0; no < EXAM_QUESTION_COUNT; no++)
+            answer(no);
+
+        budget.perform(7, get(examPath + "/result"));
+    }
+
+    @Test
+    void chat() throws Exception {
+        // 미리 준비된 질문은 답을 제출한 뒤에 제공됨
+        answer(0);
+
+        budget.perform(1, get(examPath + "/questions/0/chat/preset"));
+        budget.perform(9, post(examPath + "/questions/0/chat")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"user\":\"why?\"}"));
+        budget.perform(2, get(examPath + "/questions/0/chat/messages"));
+    }
+}
@@ -0,0 +1,117 @@
+package kr.easylab.learning_assistant.exam.repository;
+
+import jakarta.persistence.EntityManager;
+import kr.easylab.learning_assistant.exam.dto.ExamCreationRequest;
+import kr.easylab.learning_assistant.exam.entity.ExamQuestion;
+import kr.easylab.learning_assistant.exam.service.ExamService;
+import kr.easylab.learning_assistant.question.dto.QuestionCreationRequest;
+import kr.easylab.learning_assistant.question.service.QuestionBankService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class ExamRepositoryTest {
+    @Autowired
+    private ExamRepository examRepository;
+
+    @Autowired
+    private ExamService examService;
+
+    @Autowired
+    private QuestionBankService questionBankService;
+
+    @Autowired
+    private EntityManager em;
+
+    private Long examId;
+
+    @BeforeEach
+    void setUp() {
+        Long questionBankId = questionBankService.createQuestionBank("test");
+        for (int i = 0; i < 3; i++) {
+            questionBankService.createQuestion(questionBankId, QuestionCreationRequest.builder()
+                    .title("question " + i)
+                    .correctAnswers(new String[]{"correct"})
+                    .incorrectAnswers(new String[]{"incorrect 1", "incorrect 2", "incorrect 3"})
+                    .explanation("explanation")
+                    .build());
+        }
+        examId = examService.createExam(ExamCreationRequest.builder()
+                .question_bank_id(questionBankId)
+                .language("ko")
+                .questions(3L)
+                .build());
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void findQuestionLoadsMapperGraphWithoutLazyQueries() {
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ExamQuestion examQuestion = examRepository.findQuestion(examId, 1L);
+
+        // ExamQuestionMapper.mapToDto 에서 접근하는 연관 엔티티
+        assertNotNull(examQuestion.getExam().getRandomSeed());
+        assertEquals(4, examQuestion.getQuestion().getAnswer().size());
+        assertTrue(examQuestion.getUserAnswers().isEmpty());
+        assertNull(examQuestion.getChatbot());
+
+        assertTrue(statistics.getPrepareStatementCount() <= 1,
+                "statements: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findQuestionReturnsNullForUnknownQuestion() {
+        assertNull(examRepository.findQuestion(examId, 100L));
+    }
+
+    @Test
+    void questionVersionChangesWithUserState() {
+        Long initial = examRepository.findQuestionVersion(examId, 0L);
+        assertNotNull(initial);
+
+        examService.markQuestion(examId, 0L);
+        em.flush();
+
+        assertEquals(initial + 1, examRepository.findQuestionVersion(examId, 0L));
+        assertEquals(initial, examRepository.findQuestionVersion(examId, 1L));
+        assertNull(examRepository.findQuestionVersion(examId, 100L));
+    }
+
+    @Test
+    void updateAnswerIsIdempotentAndVersioned() {
+        Long examQuestionId = examRepository.findQuestion(examId, 0L).getId();
+        Long version = examRepository.findQuestionVersion(examId, 0L);
+
+        assertEquals(1, examRepository.updateAnswer(examQuestionId, 0b101, false, version));
+        assertEquals(0, examRepository.updateAnswer(examQuestionId, 0b101, false, null));
+        assertEquals(0, examRepository.updateAnswer(examQuestionId, 0b010, true, version));
+        assertEquals(version + 1, examRepository.findQuestionVersion(examId, 0L));
+
+        em.clear();
+        ExamQuestion examQuestion = examRepository.findQuestion(examId, 0L);
+        assertEquals(List.of("A", "C"), examQuestion.getUserAnswers());
+        assertFalse(examQuestion.getCorrect());
+    }
+
+    @Test
+    void updateMarkedOnlyChangesDifferentState() {
+        assertEquals(0, examRepository.updateMarked(examId, 0L, false));
+        assertEquals(1, examRepository.updateMarked(examId, 0L, true));
+        assertEquals(0, examRepository.updateMarked(examId, 0L, true));
+        assertEquals(0, examRepository.updateMarked(examId, 100L, true));
+    }
+}
@@ -0,0 +1,99 @@
+package kr.easylab.learning_assistant.exam.service;
+
+import jakarta.persistence.EntityManager;
+import kr.easylab.learning_assistant.exam.dto.ExamCreationRequest;
+import kr.easylab.learning_assistant.question.dto.QuestionCreationRequest;
+import kr.easylab.learning_assistant.question.service.QuestionBankService;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 문제/시험 생성 시 JDBC 배치와 pooled 시퀀스로 DB 왕복 횟수가 줄어드는지 확인한다.
+@SpringBootTest
+@Transactional
+class ExamCreationBatchingTest {
+    private static final int QUESTION_COUNT = 65;
+
+    @Autowired
+    private ExamService examService;
+
+    @Autowired
+    private QuestionBankService questionBankService;
+
+    @Autowired
+    private EntityManager em;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private long createQuestions(Long questionBankId) {
+        statistics.clear();
+        for (int i = 0; i < QUESTION_COUNT; i++) {
+            questionBankService.createQuestion(questionBankId, QuestionCreationRequest.builder()
+                    .title("question " + i)
+                    .correctAnswers(new String[]{"correct"})
+                    .incorrectAnswers(new String[]{"incorrect 1", "incorrect 2", "incorrect 3"})
+                    .explanation("explanation")
+                    .build());
+        }
+        em.flush();
+        long statements = statistics.getPrepareStatementCount();
+        em.clear();
+        return statements;
+    }
+
+    @Test
+    void createQuestionsUsesBatchedInserts() {
+        Long questionBankId = questionBankService.createQuestionBank("batched");
+        long batched = createQuestions(questionBankId);
+
+        em.unwrap(Session.class).setJdbcBatchSize(1);
+        Long unbatchedBankId = questionBankService.createQuestionBank("unbatched");
+        long unbatched = createQuestions(unbatchedBankId);
+
+        // 문제 1개 + 보기 4개를 한 행씩 넣으면 325 번 이상의 INSERT 가 발생한다.
+        assertTrue(unbatched >= QUESTION_COUNT * 5, "unbatched statements: " + unbatched);
+        assertTrue(batched * 10 < unbatched, "batched statements: " + batched);
+    }
+
+    @Test
+    void createExamUsesBatchedInserts() {
+        Long questionBankId = questionBankService.createQuestionBank("exam");
+        createQuestions(questionBankId);
+
+        statistics.clear();
+        examService.createExam(ExamCreationRequest.builder()
+                .question_bank_id(questionBankId)
+                .language("ko")
+                .questions((long) QUESTION_COUNT)
+                .build());
+        em.flush();
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= 10, "statements: " + statements);
+    }
+
+    // 시퀀스 이름의 대소문자와 increment 열의 타입(H2 는 BIGINT, PostgreSQL 은 문자열)이 DB 마다 다름
+    @Test
+    @SuppressWarnings("unchecked")
+    void sequencesAllocateIdsInBlocks() {
+        List<Object> increments = em.createNativeQuery(
+                "SELECT increment FROM information_schema.sequences WHERE LOWER(sequence_name) IN ('question_seq', 'answer_seq', 'exam_question_seq')"
+        ).getResultList();
+
+        assertEquals(3, increments.size());
+        increments.forEach(increment -> assertEquals(50, Long.parseLong(String.valueOf(increment))));
+    }
+}
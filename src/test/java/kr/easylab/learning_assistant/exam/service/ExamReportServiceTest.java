@@ -0,0 +1,60 @@
+package kr.easylab.learning_assistant.exam.service;
+
+import kr.easylab.learning_assistant.exam.dto.ExamCreationRequest;
+import kr.easylab.learning_assistant.exam.repository.ExamRepository;
+import kr.easylab.learning_assistant.question.dto.QuestionCreationRequest;
+import kr.easylab.learning_assistant.question.service.QuestionBankService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// 복제본을 스키마가 없는 빈 DB 로 두어, 복제본에서 읽으면 바로 실패하도록 함
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:report-primary",
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=jdbc:h2:mem:report-replica"
+})
+class ExamReportServiceTest {
+    @Autowired
+    private ExamReportService examReportService;
+
+    @Autowired
+    private ExamService examService;
+
+    @Autowired
+    private ExamRepository examRepository;
+
+    @Autowired
+    private QuestionBankService questionBankService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void resultVersionIsReadFromPrimary() {
+        Long questionBankId = questionBankService.createQuestionBank("report");
+        questionBankService.createQuestion(questionBankId, QuestionCreationRequest.builder()
+                .title("question")
+                .correctAnswers(new String[]{"correct"})
+                .incorrectAnswers(new String[]{"incorrect"})
+                .build());
+        Long examId = examService.createExam(ExamCreationRequest.builder()
+                .question_bank_id(questionBankId)
+                .language("ko")
+                .questions(1L)
+                .build());
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        assertThrows(RuntimeException.class, () -> readOnly.execute(status -> examRepository.findById(examId)));
+
+        Long before = examReportService.getResultVersion(examId);
+        examService.markQuestion(examId, 0L);
+        assertNotEquals(before, examReportService.getResultVersion(examId));
+    }
+}
@@ -0,0 +1,34 @@
+package kr.easylab.learning_assistant.exam.service.translation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TranslationPrefetchTrackerTest {
+    @Test
+    void countsQueuedUsedAndWastedPrefetches() throws InterruptedException {
+        TranslationPrefetchTracker tracker = new TranslationPrefetchTracker(Duration.ofMillis(50));
+
+        tracker.queued();
+        tracker.queued();
+        assertEquals(2, tracker.getQueueDepth());
+
+        tracker.started();
+        tracker.prefetched(1L, 1L);
+        tracker.started();
+        tracker.prefetched(1L, 2L);
+        assertEquals(0, tracker.getQueueDepth());
+        assertEquals(2, tracker.getUnusedCount());
+
+        tracker.requested(1L, 1L);
+        // 선행 번역하지 않은 문제의 요청은 집계하지 않음
+        tracker.requested(1L, 3L);
+        Thread.sleep(100);
+
+        assertEquals(1, tracker.getUsedCount());
+        assertEquals(1, tracker.getWastedCount());
+        assertEquals(0, tracker.getUnusedCount());
+    }
+}
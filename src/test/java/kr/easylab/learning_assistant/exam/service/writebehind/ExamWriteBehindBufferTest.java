@@ -0,0 +1,118 @@
+package kr.easylab.learning_assistant.exam.service.writebehind;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.easylab.learning_assistant.exam.dto.ExamCreationRequest;
+import kr.easylab.learning_assistant.exam.repository.ExamRepository;
+import kr.easylab.learning_assistant.exam.service.ExamChatbotService;
+import kr.easylab.learning_assistant.exam.service.ExamService;
+import kr.easylab.learning_assistant.question.dto.QuestionCreationRequest;
+import kr.easylab.learning_assistant.question.service.QuestionBankService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 쓰기 지연 버퍼는 별도 트랜잭션으로 커밋하므로 다른 테스트와 DB 를 분리
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:write-behind",
+        "exam.write_behind.enabled=true",
+        "exam.write_behind.flush_interval=1h",
+        "exam.write_behind.wal_dir=build/tmp/exam-wal-test"
+})
+class ExamWriteBehindBufferTest {
+    @Autowired
+    private ExamWriteBehindBuffer examWriteBehindBuffer;
+
+    @Autowired
+    private ExamService examService;
+
+    @Autowired
+    private ExamChatbotService examChatbotService;
+
+    @Autowired
+    private ExamRepository examRepository;
+
+    @Autowired
+    private QuestionBankService questionBankService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long examId;
+
+    @BeforeEach
+    void setUp() {
+        Long questionBankId = questionBankService.createQuestionBank("write-behind");
+        for (int i = 0; i < 2; i++) {
+            questionBankService.createQuestion(questionBankId, QuestionCreationRequest.builder()
+                    .title("question " + i)
+                    .correctAnswers(new String[]{"correct"})
+                    .incorrectAnswers(new String[]{"incorrect"})
+                    .build());
+        }
+        examId = examService.createExam(ExamCreationRequest.builder()
+                .question_bank_id(questionBankId)
+                .language("ko")
+                .questions(2L)
+                .build());
+    }
+
+    private Boolean marked(Long no) {
+        return new TransactionTemplate(transactionManager).execute(status -> examRepository.findQuestion(examId, no).getMarked());
+    }
+
+    @Test
+    void markIsBufferedUntilFlush() {
+        String before = examService.getQuestionStateVersion(examId, 0L);
+
+        examService.markQuestion(examId, 0L);
+        examService.unmarkQuestion(examId, 0L);
+        examService.markQuestion(examId, 0L);
+        // 채팅 조회는 쓰기 지연 버퍼를 반영하지 않음
+        examChatbotService.getChatHistory(examId, 0L, null, 10L);
+
+        assertFalse(marked(0L));
+        assertTrue(examWriteBehindBuffer.getPending(examId, 0L).orElseThrow().getMark().getMarked());
+        assertNotEquals(before, examService.getQuestionStateVersion(examId, 0L));
+
+        examWriteBehindBuffer.flush();
+
+        assertTrue(marked(0L));
+        assertTrue(examWriteBehindBuffer.getPending(examId, 0L).isEmpty());
+        assertEquals(String.valueOf(Long.parseLong(before) + 1), examService.getQuestionStateVersion(examId, 0L));
+    }
+
+    @Test
+    void recoverAppliesLeftoverLog(@TempDir Path walDirectory) throws Exception {
+        ExamInteractionEvent event = ExamInteractionEvent.builder()
+                .seq(1L)
+                .type(ExamInteractionEvent.Type.MARK)
+                .examId(examId)
+                .no(1L)
+                .marked(true)
+                .build();
+        Files.writeString(walDirectory.resolve("exam-interactions-7.wal"), objectMapper.writeValueAsString(event) + "\n{\"seq\":2,\"ty");
+
+        ExamWriteBehindBuffer buffer = new ExamWriteBehindBuffer(examRepository, transactionManager, objectMapper, true, walDirectory);
+        buffer.recover();
+        buffer.close();
+
+        assertTrue(marked(1L));
+        try (Stream<Path> files = Files.list(walDirectory)) {
+            assertEquals(List.of(), files.toList());
+        }
+    }
+}
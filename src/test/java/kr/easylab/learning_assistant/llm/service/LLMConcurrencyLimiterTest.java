@@ -0,0 +1,92 @@
+package kr.easylab.learning_assistant.llm.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.easylab.learning_assistant.llm.dto.LLMPriority;
+import kr.easylab.learning_assistant.llm.exception.LLMOverloaded;
+import kr.easylab.learning_assistant.llm.exception.LLMRateLimited;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LLMConcurrencyLimiterTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private LLMConcurrencyLimiter limiter(double initialLimit, Duration latencyThreshold, Duration maxWait) {
+        return new LLMConcurrencyLimiter(initialLimit, 1, 10, 0.5, 0.5, latencyThreshold, maxWait, registry);
+    }
+
+    private void awaitWaiting(LLMConcurrencyLimiter limiter, LLMPriority priority) throws InterruptedException {
+        for (int i = 0; i < 500 && limiter.getWaiting(priority) == 0; i++)
+            Thread.sleep(10);
+        assertEquals(1, limiter.getWaiting(priority));
+    }
+
+    @Test
+    void increasesOnFastSuccessAndBacksOffOnRateLimitAndSlowResponse() {
+        LLMConcurrencyLimiter limiter = limiter(4, Duration.ofMinutes(1), Duration.ofMillis(100));
+
+        LLMConcurrencyLimiter.Permit first = limiter.acquire(LLMPriority.INTERACTIVE);
+        LLMConcurrencyLimiter.Permit second = limiter.acquire(LLMPriority.INTERACTIVE);
+        first.success();
+        assertEquals(4.25, limiter.getLimit(), 1e-9);
+
+        second.failure(new LLMRateLimited());
+        second.success();
+        assertEquals(2.125, limiter.getLimit(), 1e-9);
+        assertEquals(0, limiter.getInFlight());
+
+        LLMConcurrencyLimiter slow = limiter(4, Duration.ZERO, Duration.ofMillis(100));
+        slow.acquire(LLMPriority.BACKGROUND).success();
+        assertEquals(3.6, slow.getLimit(), 1e-9);
+
+        // 429 가 아닌 오류와 취소는 한도를 바꾸지 않음
+        slow.acquire(LLMPriority.BACKGROUND).failure(new IllegalStateException());
+        slow.acquire(LLMPriority.BACKGROUND).cancel();
+        assertEquals(3.6, slow.getLimit(), 1e-9);
+    }
+
+    @Test
+    void shedsSpeculativeCallsBeyondTheirShare() {
+        LLMConcurrencyLimiter limiter = limiter(4, Duration.ofMinutes(1), Duration.ofMillis(50));
+
+        limiter.acquire(LLMPriority.SPECULATIVE);
+        limiter.acquire(LLMPriority.SPECULATIVE);
+        assertThrows(LLMOverloaded.class, () -> limiter.acquire(LLMPriority.SPECULATIVE));
+        assertEquals(1, limiter.getRejectedCount(LLMPriority.SPECULATIVE));
+
+        limiter.acquire(LLMPriority.INTERACTIVE);
+        limiter.acquire(LLMPriority.INTERACTIVE);
+        // 한도가 차면 max_wait 동안 기다린 뒤 거절
+        assertThrows(LLMOverloaded.class, () -> limiter.acquire(LLMPriority.INTERACTIVE));
+        assertEquals(1, limiter.getRejectedCount(LLMPriority.INTERACTIVE));
+        assertEquals(0, limiter.getWaiting(LLMPriority.INTERACTIVE));
+    }
+
+    @Test
+    void admitsInteractiveCallsBeforeBackgroundCalls() throws Exception {
+        LLMConcurrencyLimiter limiter = limiter(2, Duration.ofMinutes(1), Duration.ofSeconds(10));
+        LLMConcurrencyLimiter.Permit first = limiter.acquire(LLMPriority.BACKGROUND);
+        LLMConcurrencyLimiter.Permit second = limiter.acquire(LLMPriority.BACKGROUND);
+
+        CompletableFuture<LLMConcurrencyLimiter.Permit> background = CompletableFuture.supplyAsync(() -> limiter.acquire(LLMPriority.BACKGROUND));
+        awaitWaiting(limiter, LLMPriority.BACKGROUND);
+        CompletableFuture<LLMConcurrencyLimiter.Permit> interactive = CompletableFuture.supplyAsync(() -> limiter.acquire(LLMPriority.INTERACTIVE));
+        awaitWaiting(limiter, LLMPriority.INTERACTIVE);
+
+        first.cancel();
+        assertNotNull(interactive.get(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertFalse(background.isDone());
+
+        second.cancel();
+        assertNotNull(background.get(5, TimeUnit.SECONDS));
+        assertEquals(2, limiter.getInFlight());
+    }
+}
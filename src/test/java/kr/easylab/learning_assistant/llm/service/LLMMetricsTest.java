@@ -0,0 +1,49 @@
+package kr.easylab.learning_assistant.llm.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.easylab.learning_assistant.llm.dto.LLMCallSite;
+import kr.easylab.learning_assistant.llm.dto.LLMConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LLMMetricsTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final LLMMetrics llmMetrics = new LLMMetrics(registry);
+    private final LLMMetrics.Pricing pricing = new LLMMetrics.Pricing(1.0, 10.0);
+
+    @Test
+    void recordsDurationTokensAndCostPerCallSite() {
+        LLMConfig config = LLMConfig.builder().thinking(LLMConfig.ThinkingMode.no).callSite(LLMCallSite.PRESET).build();
+
+        LLMMetrics.Call call = llmMetrics.start("google", "test", pricing, config);
+        assertEquals(1, llmMetrics.getActiveCalls("google"));
+        call.usage(1000L, 200L, 100L);
+        call.success();
+        call.failure();
+
+        assertEquals(0, llmMetrics.getActiveCalls("google"));
+        assertEquals(1, registry.get("llm.call.duration").tag("call_site", "preset").tag("outcome", "success").timer().count());
+        assertEquals(0, registry.find("llm.call.duration").tag("outcome", "error").timers().size());
+        assertEquals(1000, registry.get("llm.tokens").tag("type", "input").counter().count());
+        assertEquals(100, registry.get("llm.tokens").tag("type", "thinking").counter().count());
+        // 1000 * 1.0 + (200 + 100) * 10.0 = 4000 / 1M
+        assertEquals(0.004, registry.get("llm.cost").tag("provider", "google").counter().count(), 1e-9);
+    }
+
+    @Test
+    void recordsFirstTokenOnceAndCallContextFallback() {
+        LLMConfig config = LLMConfig.builder()
+                .callSite(LLMCallContext.with(LLMCallSite.PREFETCH, () -> LLMCallContext.currentOr(LLMCallSite.TRANSLATION)))
+                .build();
+        assertEquals(LLMCallSite.TRANSLATION, LLMCallContext.currentOr(LLMCallSite.TRANSLATION));
+
+        LLMMetrics.Call call = llmMetrics.start("anthropic", "test", pricing, config);
+        call.firstToken();
+        call.firstToken();
+        call.cancel();
+
+        assertEquals(1, registry.get("llm.stream.first_token").tag("call_site", "prefetch").timer().count());
+        assertEquals(1, registry.get("llm.call.duration").tag("thinking", "default").tag("outcome", "cancelled").timer().count());
+    }
+}
@@ -0,0 +1,101 @@
+package kr.easylab.learning_assistant.llm.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import kr.easylab.learning_assistant.llm.dto.LLMCallSite;
+import kr.easylab.learning_assistant.llm.dto.LLMConfig;
+import kr.easylab.learning_assistant.llm.dto.LLMMessage;
+import kr.easylab.learning_assistant.simulator.LLMSimulator;
+import kr.easylab.learning_assistant.simulator.LLMSimulatorConfig;
+import kr.easylab.learning_assistant.translation.dto.TranslatedResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LLMSimulatorTest {
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LLMMetrics llmMetrics = new LLMMetrics(meterRegistry);
+    private final GoogleSchemaMappingService schemaMappingService = new GoogleSchemaMappingService(objectMapper);
+
+    private LLMSimulator simulator;
+
+    private LLMSimulator start(LLMSimulatorConfig.LLMSimulatorConfigBuilder builder) throws IOException {
+        simulator = new LLMSimulator(builder
+                .firstTokenLatency(Duration.ofMillis(5))
+                .tokensPerSecond(100_000)
+                .build()).start(0);
+        return simulator;
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulator.close();
+    }
+
+    private GoogleLLMService google() {
+        return new GoogleLLMService(simulator.getBaseUrl(), "key", "simulator", 0.3, 2.5,
+                objectMapper, schemaMappingService, schemaMappingService, llmMetrics, ObservationRegistry.NOOP);
+    }
+
+    private ClaudeLLMService claude() {
+        return new ClaudeLLMService(simulator.getBaseUrl(), "key", "simulator", 3, 15,
+                objectMapper, schemaMappingService, llmMetrics, ObservationRegistry.NOOP);
+    }
+
+    private List<LLMMessage> user(String text) {
+        return List.of(LLMMessage.builder().role(LLMMessage.Role.USER).text(text).build());
+    }
+
+    @Test
+    void structuredOutputMatchesSchemaAndIsDeterministic() throws IOException {
+        start(LLMSimulatorConfig.builder().seed(7));
+        LLMConfig config = LLMConfig.builder().prompt("translate").thinking(LLMConfig.ThinkingMode.no).build();
+
+        TranslatedResponse first = google().generate(user("[\"a\",\"b\",\"c\"]"), TranslatedResponse.class, config);
+        TranslatedResponse second = claude().generate(user("[\"a\",\"b\",\"c\"]"), TranslatedResponse.class, config);
+
+        assertEquals(List.of("a", "b", "c"), first.getTranslated());
+        assertEquals(first.getTranslated(), second.getTranslated());
+        assertEquals(google().generate(user("hello"), config), google().generate(user("hello"), config));
+    }
+
+    @Test
+    void streamsTokensWithUsage() throws IOException {
+        start(LLMSimulatorConfig.builder().minOutputTokens(40).maxOutputTokens(40));
+        LLMConfig config = LLMConfig.builder().prompt("chat").callSite(LLMCallSite.CHAT_STREAM).build();
+
+        for (LLMService service : List.of(google(), claude())) {
+            List<String> chunks = service.generateStream(user("hello"), config).collectList().block();
+            assertTrue(chunks.size() > 1);
+            assertFalse(String.join("", chunks).isBlank());
+        }
+
+        assertEquals(2, meterRegistry.find("llm.stream.first_token").tag("call_site", "chat-stream").timers().size());
+        assertEquals(40, meterRegistry.get("llm.tokens").tag("provider", "google").tag("type", "output").counter().count());
+    }
+
+    @Test
+    void injectsRateLimitBursts() throws IOException {
+        start(LLMSimulatorConfig.builder().rateLimitEvery(3).rateLimitBurst(2));
+        LLMConfig config = LLMConfig.builder().prompt("chat").build();
+
+        assertThrows(RuntimeException.class, () -> claude().generate(user("hello"), config));
+        assertThrows(RuntimeException.class, () -> claude().generate(user("hello"), config));
+        assertFalse(claude().generate(user("hello"), config).isBlank());
+        assertEquals(2, simulator.getRateLimitedCount());
+    }
+}
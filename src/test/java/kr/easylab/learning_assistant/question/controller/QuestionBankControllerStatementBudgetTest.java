@@ -0,0 +1,102 @@
+package kr.easylab.learning_assistant.question.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import kr.easylab.learning_assistant.common.sql.StatementBudget;
+import kr.easylab.learning_assistant.question.dto.QuestionCreationRequest;
+import kr.easylab.learning_assistant.question.service.QuestionBankService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+// 문제 은행 API 마다 실행되는 SQL 문 수의 상한을 검사하여 N+1 조회가 다시 생기지 않도록 한다.
+// 상한은 문제 수와 무관해야 하므로 페이지/배치 크기를 넘는 문제 수로 측정한다.
+// 요청마다 커밋되므로 다른 테스트와 공유하지 않는 DB 를 사용
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:question-bank-budget")
+@AutoConfigureMockMvc
+class QuestionBankControllerStatementBudgetTest {
+    private static final int QUESTION_COUNT = 120;
+    private static final String ADMIN = "Basic " + Base64.getEncoder().encodeToString("admin:password".getBytes(StandardCharsets.UTF_8));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private QuestionBankService questionBankService;
+
+    private StatementBudget budget;
+    private Long questionBankId;
+
+    @BeforeEach
+    void setUp() {
+        budget = new StatementBudget(mockMvc, entityManagerFactory);
+        questionBankId = questionBankService.createQuestionBank("budget");
+        for (int i = 0; i < QUESTION_COUNT; i++) {
+            questionBankService.createQuestion(questionBankId, QuestionCreationRequest.builder()
+                    .title("question " + i)
+                    .correctAnswers(new String[]{"correct"})
+                    .incorrectAnswers(new String[]{"incorrect 1", "incorrect 2", "incorrect 3"})
+                    .explanation("explanation")
+                    .build());
+        }
+    }
+
+    private MockHttpServletRequestBuilder admin(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, ADMIN);
+    }
+
+    @Test
+    void getQuestionBanks() throws Exception {
+        budget.perform(1, get("/api/1/question-banks"));
+    }
+
+    @Test
+    void createQuestionBank() throws Exception {
+        budget.perform(1, admin(post("/api/1/question-banks"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"new\"}"));
+    }
+
+    @Test
+    void createQuestion() throws Exception {
+        budget.perform(5, admin(post("/api/1/question-banks/" + questionBankId + "/questions"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"new\",\"correct_answers\":[\"a\"],\"incorrect_answers\":[\"b\",\"c\",\"d\"],\"explanation\":\"e\"}"));
+    }
+
+    @Test
+    void importQuestions() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < QUESTION_COUNT; i++)
+            body.append("{\"title\":\"Q").append(i).append("\",\"correct_answers\":[\"a\"],\"incorrect_answers\":[\"b\",\"c\"],\"explanation\":\"e\"}\n");
+
+        // 배치 단위로 INSERT 하므로 문제 수가 아닌 배치 수에 비례함
+        budget.perform(20, admin(post("/api/1/question-banks/" + questionBankId + "/questions/import"))
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body.toString()));
+    }
+
+    @Test
+    void exportAndRestore() throws Exception {
+        byte[] snapshot = budget.perform(6, admin(get("/api/1/question-banks/" + questionBankId + "/export")))
+                .getResponse().getContentAsByteArray();
+
+        budget.perform(23, admin(post("/api/1/question-banks/restore"))
+                .contentType("application/gzip")
+                .content(snapshot));
+    }
+}
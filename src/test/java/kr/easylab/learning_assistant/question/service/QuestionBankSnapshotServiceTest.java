@@ -0,0 +1,71 @@
+package kr.easylab.learning_assistant.question.service;
+
+import kr.easylab.learning_assistant.question.dto.QuestionBankRestoreResponse;
+import kr.easylab.learning_assistant.question.dto.QuestionCreationRequest;
+import kr.easylab.learning_assistant.question.entity.Answer;
+import kr.easylab.learning_assistant.question.entity.Question;
+import kr.easylab.learning_assistant.question.exception.InvalidQuestionImport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class QuestionBankSnapshotServiceTest {
+    @Autowired
+    private QuestionBankService questionBankService;
+
+    @Autowired
+    private QuestionBankSnapshotService questionBankSnapshotService;
+
+    @Test
+    void exportAndRestore() throws Exception {
+        Long questionBankId = questionBankService.createQuestionBank("snapshot");
+        // 내보내기 페이지 크기(500)를 넘도록 생성
+        for (int i = 0; i < 501; i++) {
+            questionBankService.createQuestion(questionBankId, QuestionCreationRequest.builder()
+                    .title("Q" + i)
+                    .correctAnswers(new String[]{"a" + i})
+                    .incorrectAnswers(new String[]{"b" + i, "c" + i})
+                    .explanation(i % 2 == 0 ? "e" + i : null)
+                    .build());
+        }
+
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        questionBankSnapshotService.exportQuestionBank(questionBankId, snapshot);
+
+        QuestionBankRestoreResponse response = questionBankSnapshotService.restoreQuestionBank(new ByteArrayInputStream(snapshot.toByteArray()));
+
+        assertNotEquals(questionBankId, response.getQuestionBankId());
+        assertEquals(501, response.getImported());
+        assertEquals(0, response.getFailed());
+        assertEquals("snapshot", questionBankService.getQuestionBank(response.getQuestionBankId()).getTitle());
+
+        List<Question> restored = questionBankService.getAllQuestions(response.getQuestionBankId());
+        assertEquals(501, restored.size());
+        Question question = restored.stream().filter(q -> q.getTitle().equals("Q500")).findFirst().orElseThrow();
+        assertEquals("e500", question.getExplanation());
+        assertEquals(List.of("a500"), question.getAnswer().stream().filter(Answer::getCorrect).map(Answer::getText).toList());
+        assertEquals(2, question.getAnswer().stream().filter(answer -> !answer.getCorrect()).count());
+    }
+
+    @Test
+    void restoreRejectsUnknownFormat() throws Exception {
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(snapshot)) {
+            gzip.write("{\"format\":\"other\",\"version\":1,\"title\":\"x\"}\n".getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertThrows(InvalidQuestionImport.class, () -> questionBankSnapshotService.restoreQuestionBank(new ByteArrayInputStream(snapshot.toByteArray())));
+    }
+}
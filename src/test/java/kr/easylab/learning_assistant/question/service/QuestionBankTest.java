@@ -1,6 +1,6 @@
 package kr.easylab.learning_assistant.question.service;
 
-import kr.easylab.learning_assistant.translation.dto.Language;
+import kr.easylab.learning_assistant.question.dto.QuestionBankResponse;
 import kr.easylab.learning_assistant.question.entity.QuestionBank;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,7 +19,7 @@ class QuestionBankTest {
 
     @Test
     void createQuestionBank() {
-        Long questionBankId = questionBankService.createQuestionBank("test", Language.KOREAN);
+        Long questionBankId = questionBankService.createQuestionBank("test");
         QuestionBank questionBank = questionBankService.getQuestionBank(questionBankId);
 
         assertNotNull(questionBankId);
@@ -29,18 +29,18 @@ class QuestionBankTest {
 
     @Test
     void createQuestionBankNotitle() {
-        assertThrows(IllegalArgumentException.class, () -> questionBankService.createQuestionBank(null, null));
+        assertThrows(IllegalArgumentException.class, () -> questionBankService.createQuestionBank(null));
     }
 
     @Test
     void getQuestionBanks() {
-        List<QuestionBank> questionBanks = questionBankService.getQuestionBanks();
+        List<QuestionBankResponse> questionBanks = questionBankService.getQuestionBanks();
         assertEquals(0, questionBanks.size());
 
-        questionBankService.createQuestionBank("test", Language.KOREAN);
-        questionBankService.createQuestionBank("test2", Language.KOREAN);
+        questionBankService.createQuestionBank("test");
+        questionBankService.createQuestionBank("test2");
 
         questionBanks = questionBankService.getQuestionBanks();
         assertEquals(2, questionBanks.size());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,69 @@
+package kr.easylab.learning_assistant.question.service;
+
+import kr.easylab.learning_assistant.question.dto.QuestionBankResponse;
+import kr.easylab.learning_assistant.question.dto.QuestionCreationRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// 문제 수는 커밋 직전에 반영되므로 트랜잭션을 실제로 커밋하도록 다른 테스트와 DB 를 분리
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:question-count")
+class QuestionCountTest {
+    @Autowired
+    private QuestionBankService questionBankService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private QuestionCreationRequest question(String title) {
+        return QuestionCreationRequest.builder()
+                .title(title)
+                .correctAnswers(new String[]{"a"})
+                .incorrectAnswers(new String[]{"b"})
+                .build();
+    }
+
+    private long questionCount(Long questionBankId) {
+        return questionBankService.getQuestionBanks()
+                .stream()
+                .filter(questionBank -> questionBank.getQuestionBankId().equals(questionBankId))
+                .map(QuestionBankResponse::getQuestions)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    void questionCountIsIncrementedOnCommit() {
+        Long questionBankId = questionBankService.createQuestionBank("count");
+        assertEquals(0, questionCount(questionBankId));
+
+        questionBankService.createQuestions(questionBankId, List.of(question("q1"), question("q2")));
+        assertEquals(2, questionCount(questionBankId));
+
+        // 한 트랜잭션에서 여러 번 추가해도 커밋 시 합계만큼 한 번에 반영
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            questionBankService.createQuestion(questionBankId, question("q3"));
+            questionBankService.createQuestions(questionBankId, List.of(question("q4"), question("q5")));
+        });
+        assertEquals(5, questionCount(questionBankId));
+        assertEquals(5, questionBankService.getAllQuestions(questionBankId).size());
+    }
+
+    @Test
+    void questionCountIsUnchangedOnRollback() {
+        Long questionBankId = questionBankService.createQuestionBank("rollback");
+
+        assertThrows(IllegalStateException.class, () -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            questionBankService.createQuestion(questionBankId, question("q1"));
+            throw new IllegalStateException();
+        }));
+        assertEquals(0, questionCount(questionBankId));
+    }
+}
@@ -0,0 +1,114 @@
+package kr.easylab.learning_assistant.question.service;
+
+import kr.easylab.learning_assistant.question.dto.QuestionImportResponse;
+import kr.easylab.learning_assistant.question.entity.Answer;
+import kr.easylab.learning_assistant.question.entity.Question;
+import kr.easylab.learning_assistant.question.exception.InvalidQuestionImport;
+import kr.easylab.learning_assistant.question.exception.QuestionImportInterrupted;
+import kr.easylab.learning_assistant.question.importer.QuestionImportFormat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class QuestionImportServiceTest {
+    @Autowired
+    private QuestionBankService questionBankService;
+
+    @Autowired
+    private QuestionImportService questionImportService;
+
+    private InputStream input(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void importJsonLines() {
+        Long questionBankId = questionBankService.createQuestionBank("test");
+
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 250; i++)
+            body.append("{\"title\":\"Q").append(i).append("\",\"correct_answers\":[\"a\"],\"incorrect_answers\":[\"b\",\"c\"],\"explanation\":\"e\"}\n");
+        body.append("{\"title\":\"broken\"\n");
+        body.append("\n");
+        body.append("{\"correct_answers\":[\"a\"],\"incorrect_answers\":[]}\n");
+
+        QuestionImportResponse response = questionImportService.importQuestions(questionBankId, QuestionImportFormat.NDJSON, input(body.toString()));
+
+        assertEquals(250, response.getImported());
+        assertEquals(2, response.getFailed());
+        assertEquals(251, response.getErrors().get(0).getLine());
+        assertEquals(253, response.getErrors().get(1).getLine());
+        assertEquals(250, questionBankService.getAllQuestions(questionBankId).size());
+    }
+
+    @Test
+    void importCsv() {
+        Long questionBankId = questionBankService.createQuestionBank("test");
+
+        String body = """
+                title,explanation,correct_answer,incorrect_answer,incorrect_answer
+                "Which one is ""correct""?",,yes,no,maybe
+                "multi
+                line",because,"a, b",c,
+                ,missing title,a,b,c
+                too,few
+                """;
+
+        QuestionImportResponse response = questionImportService.importQuestions(questionBankId, QuestionImportFormat.CSV, input(body));
+
+        assertEquals(2, response.getImported());
+        assertEquals(2, response.getFailed());
+        assertEquals(5, response.getErrors().get(0).getLine());
+        assertEquals(6, response.getErrors().get(1).getLine());
+
+        List<Question> questions = questionBankService.getAllQuestions(questionBankId);
+        Question quoted = questions.stream().filter(q -> q.getTitle().startsWith("Which")).findFirst().orElseThrow();
+        assertEquals("Which one is \"correct\"?", quoted.getTitle());
+        assertNull(quoted.getExplanation());
+        assertEquals(3, quoted.getAnswer().size());
+
+        Question multiline = questions.stream().filter(q -> q.getTitle().startsWith("multi")).findFirst().orElseThrow();
+        assertEquals("multi\nline", multiline.getTitle());
+        assertEquals(List.of("a, b", "c"), multiline.getAnswer().stream().map(Answer::getText).toList());
+    }
+
+    @Test
+    void importCsvUnknownColumn() {
+        Long questionBankId = questionBankService.createQuestionBank("test");
+
+        assertThrows(InvalidQuestionImport.class, () -> questionImportService.importQuestions(questionBankId, QuestionImportFormat.CSV, input("title,answer\nq,a\n")));
+    }
+
+    @Test
+    void importInterrupted() {
+        Long questionBankId = questionBankService.createQuestionBank("test");
+
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 150; i++)
+            body.append("{\"title\":\"Q").append(i).append("\",\"correct_answers\":[\"a\"],\"incorrect_answers\":[\"b\"]}\n");
+        InputStream broken = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        // 읽기에 실패하면 이미 커밋된 첫 배치만 남고, 끝까지 읽지 못한 두 번째 배치는 저장하지 않음
+        QuestionImportInterrupted exception = assertThrows(QuestionImportInterrupted.class, () -> questionImportService.importQuestions(
+                questionBankId, QuestionImportFormat.NDJSON, new SequenceInputStream(input(body.toString()), broken)));
+        assertTrue(exception.getMessage().endsWith(": 100"));
+        assertEquals(100, questionBankService.getAllQuestions(questionBankId).size());
+    }
+}